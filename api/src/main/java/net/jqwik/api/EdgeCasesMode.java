@@ -32,12 +32,25 @@ public enum EdgeCasesMode {
 	 */
 	NONE,
 
+	/**
+	 * Generate edge cases first but only as many combinations as are needed
+	 * to combine each edge case of a parameter with each edge case of every other parameter at least once.
+	 * With three or more parameters this usually requires far fewer tries than {@linkplain #FIRST}.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	PAIRWISE,
+
 	@API(status = INTERNAL)
 	NOT_SET;
 
 	@API(status = INTERNAL)
 	public boolean generateFirst() {
-		return this == FIRST;
+		return this == FIRST || this == PAIRWISE;
+	}
+
+	@API(status = INTERNAL)
+	public boolean combinePairwise() {
+		return this == PAIRWISE;
 	}
 
 	@API(status = INTERNAL)
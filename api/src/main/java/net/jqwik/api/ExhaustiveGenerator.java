@@ -36,6 +36,27 @@ public interface ExhaustiveGenerator<T> extends Iterable<T> {
 	 */
 	long maxCount();
 
+	/**
+	 * @return true if values can be decoded by their index through {@linkplain #get(long)}.
+	 * In that case {@linkplain #maxCount()} is the exact number of values.
+	 */
+	@API(status = INTERNAL, since = "1.7.0")
+	default boolean isRandomAccess() {
+		return false;
+	}
+
+	/**
+	 * Decode a value directly by its index in iteration order.
+	 * Only supported if {@linkplain #isRandomAccess()} returns true.
+	 *
+	 * @param index A number between 0 (included) and {@linkplain #maxCount()} (excluded)
+	 * @return the value at the given index
+	 */
+	@API(status = INTERNAL, since = "1.7.0")
+	default T get(long index) {
+		throw new UnsupportedOperationException(String.format("%s does not support access by index", getClass().getName()));
+	}
+
 	default <U> ExhaustiveGenerator<U> map(Function<T, U> mapper) {
 		return ExhaustiveGeneratorFacade.implementation.map(this, mapper);
 	}
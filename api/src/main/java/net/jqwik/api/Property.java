@@ -38,6 +38,7 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	int PARALLELISM_NOT_SET = 0;
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +93,17 @@ public @interface Property {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The number of tries that are executed in parallel.
+	 * Values are still generated one after the other so that a falsified sample can be reproduced from its seed.
+	 * Only use a value greater than 1 if the property method and all its lifecycle hooks are thread safe.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.parallelism.default}
+	 * configuration property.
+	 *
+	 * @return the number of tries to execute in parallel
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	int parallelism() default PARALLELISM_NOT_SET;
 }
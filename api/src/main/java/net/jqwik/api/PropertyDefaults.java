@@ -39,6 +39,9 @@ public @interface PropertyDefaults {
 	@API(status = MAINTAINED, since = "1.6.2")
 	int maxDiscardRatio() default MAX_DISCARD_RATIO_NOT_SET;
 
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	int parallelism() default PARALLELISM_NOT_SET;
+
 	class PropertyDefaultsHook implements AroundPropertyHook {
 
 		@Override
@@ -87,6 +90,12 @@ public @interface PropertyDefaults {
 					attributes.setMaxDiscardRatio(ratio);
 				}
 			});
+			findParallelism(propertyDefaults).ifPresent(parallelism -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.parallelism().isPresent()) {
+					attributes.setParallelism(parallelism);
+				}
+			});
 
 			return property.execute();
 		}
@@ -140,6 +149,13 @@ public @interface PropertyDefaults {
 								   .findFirst();
 		}
 
+		private Optional<Integer> findParallelism(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::parallelism)
+								   .filter(parallelism -> parallelism != PARALLELISM_NOT_SET)
+								   .findFirst();
+		}
+
 		@Override
 		public int aroundPropertyProximity() {
 			// Somewhat more distant than standard hooks, so that those may change the attributes
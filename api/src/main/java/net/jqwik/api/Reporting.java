@@ -18,7 +18,16 @@ public enum Reporting {
 	 * {@link Reporting#FALSIFIED} will report each set of parameters that is falsified during shrinking.
 	 * i.e., report "table" will be printed only when some test fails.
 	 */
-	FALSIFIED;
+	FALSIFIED,
+
+	/**
+	 * {@link Reporting#METRICS} will report timings, allocations and shrinking steps
+	 * of a property after it has been run.
+	 *
+	 * @see net.jqwik.api.lifecycle.PropertyExecutionMetrics
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	METRICS;
 
 	public boolean containedIn(Reporting[] reporting) {
 		return Arrays.stream(reporting).anyMatch(this::equals);
@@ -49,4 +49,14 @@ public interface BigIntegerArbitrary extends NumericalArbitrary<BigInteger, BigI
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	BigIntegerArbitrary shrinkTowards(BigInteger target);
+
+	/**
+	 * Only generate multiples of {@code multipleOf} within the allowed bounds.
+	 * Multiples are generated directly, which is much more efficient than filtering,
+	 * and shrinking will only try other multiples.
+	 *
+	 * @param multipleOf Must be greater than 0
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	BigIntegerArbitrary multipleOf(BigInteger multipleOf);
 }
@@ -109,4 +109,18 @@ public interface CharacterArbitrary extends Arbitrary<Character> {
 	 */
 	@API(status = MAINTAINED, since = "1.5.3")
 	CharacterArbitrary alpha();
+
+	/**
+	 * Exclude {@code excludedChars} from all chars that are allowed otherwise.
+	 * Excluded chars are removed before generation, which is much more efficient
+	 * than filtering them out after generation.
+	 *
+	 * <p>
+	 * Applies to all allowed chars, no matter if they are added before or after.
+	 * </p>
+	 *
+	 * @return new instance of arbitrary
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	CharacterArbitrary except(char... excludedChars);
 }
@@ -34,4 +34,14 @@ public interface ShortArbitrary extends NumericalArbitrary<Short, ShortArbitrary
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	Arbitrary<Short> shrinkTowards(short target);
+
+	/**
+	 * Only generate multiples of {@code multipleOf} within the allowed bounds.
+	 * Multiples are generated directly, which is much more efficient than filtering,
+	 * and shrinking will only try other multiples.
+	 *
+	 * @param multipleOf Must be greater than 0
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	ShortArbitrary multipleOf(short multipleOf);
 }
@@ -107,6 +107,18 @@ public interface PropertyAttributes {
 	@API(status = MAINTAINED, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The number of tries to execute in parallel in the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#parallelism()}
+	 * or {@linkplain #setParallelism(Integer)}.
+	 *
+	 * @return optional parallelism
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	default Optional<Integer> parallelism() {
+		return Optional.empty();
+	}
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +137,8 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	default void setParallelism(Integer parallelism) {
+	}
+
 }
@@ -0,0 +1,83 @@
+package net.jqwik.api.lifecycle;
+
+import java.time.*;
+import java.util.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Measurements taken during the execution of a single property.
+ * Use them to find out where time is spent, e.g. in a slow generator, in expensive lifecycle hooks
+ * or in shrinking.
+ *
+ * <p>
+ * Times of tries that are executed in parallel are accumulated and can therefore exceed
+ * the wall clock time of the property.
+ * Tries executed during shrinking only count towards {@linkplain #shrinkingTime()}.
+ * </p>
+ *
+ * @see PropertyExecutionResult#metrics()
+ * @see Reporting#METRICS
+ */
+@API(status = EXPERIMENTAL, since = "1.7.0")
+public interface PropertyExecutionMetrics {
+
+	/**
+	 * @return time spent to resolve arbitraries and to set up generators and edge cases
+	 */
+	Duration setupTime();
+
+	/**
+	 * @return time spent to generate the parameters of all tries
+	 */
+	Duration generationTime();
+
+	/**
+	 * @return time spent in {@linkplain AroundTryHook around try hooks} and other try lifecycle code,
+	 * not including the execution of the property method itself
+	 */
+	Duration aroundTryTime();
+
+	/**
+	 * @return time spent in the property method
+	 */
+	Duration propertyMethodTime();
+
+	/**
+	 * @return time spent to shrink a falsified sample including the tries that were executed during shrinking
+	 */
+	Duration shrinkingTime();
+
+	/**
+	 * @return number of tries that have been measured, not counting tries executed during shrinking
+	 */
+	int countMeasuredTries();
+
+	/**
+	 * @return number of shrinking steps
+	 */
+	int countShrinkingSteps();
+
+	/**
+	 * The number of bytes allocated by the threads executing the measured tries.
+	 * Only available if the JVM supports measuring thread allocations.
+	 *
+	 * @return an optional number of bytes
+	 */
+	OptionalLong allocatedBytes();
+
+	/**
+	 * @return the average number of bytes allocated per measured try
+	 */
+	default OptionalLong allocatedBytesPerTry() {
+		if (countMeasuredTries() == 0) {
+			return OptionalLong.empty();
+		}
+		OptionalLong allocatedBytes = allocatedBytes();
+		return allocatedBytes.isPresent() ? OptionalLong.of(allocatedBytes.getAsLong() / countMeasuredTries()) : OptionalLong.empty();
+	}
+}
@@ -104,6 +104,17 @@ public interface PropertyExecutionResult {
 	@API(status = MAINTAINED, since = "1.3.5")
 	Optional<ShrunkFalsifiedSample> shrunkSample();
 
+	/**
+	 * Return the metrics - timings, allocations and shrinking steps - taken during the property's execution.
+	 * Properties that could not be executed have no metrics.
+	 *
+	 * @return an optional metrics object
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	default Optional<PropertyExecutionMetrics> metrics() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Use to change the {@linkplain Status status} of a property execution result in a
 	 * {@linkplain AroundPropertyHook}.
@@ -35,6 +35,8 @@ public interface Store<T> {
 
 		public abstract <T> Store<T> get(Object identifier);
 
+		public abstract <T> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<T> initialValueSupplier);
+
 		public abstract <T> Store<T> free(Supplier<T> initialValueSupplier);
 	}
 
@@ -83,20 +85,16 @@ public interface Store<T> {
 	 * @return New or existing store instance
 	 */
 	static <T> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<T> initialValueSupplier) {
-		try {
-			Store<T> store = Store.get(identifier);
-			if (!store.lifespan().equals(lifespan)) {
-				String message = String.format(
-					"Trying to recreate existing store [%s] with different lifespan [%s]",
-					store,
-					lifespan
-				);
-				throw new JqwikException(message);
-			}
-			return store;
-		} catch (CannotFindStoreException cannotFindStore) {
-			return Store.create(identifier, lifespan, initialValueSupplier);
+		Store<T> store = StoreFacade.implementation.getOrCreate(identifier, lifespan, initialValueSupplier);
+		if (!store.lifespan().equals(lifespan)) {
+			String message = String.format(
+				"Trying to recreate existing store [%s] with different lifespan [%s]",
+				store,
+				lifespan
+			);
+			throw new JqwikException(message);
 		}
+		return store;
 	}
 
 	/**
@@ -48,4 +48,47 @@ public interface StatisticsCollector {
 	@API(status = MAINTAINED, since = "1.4.0")
 	void coverage(Consumer<StatisticsCoverage> checker);
 
+	/**
+	 * Limit the memory used by this collector when there are many different values to collect,
+	 * e.g. when collecting generated ids or strings.
+	 * Only about {@code maxEntries} of the most frequently collected values will be kept and reported.
+	 *
+	 * <p>
+	 * Counts and percentages of kept values can be lower than the exact numbers
+	 * because a value that is dropped and collected again starts counting anew.
+	 * Values that are not kept have a count of 0 in coverage checks.
+	 * The total number of collects is always exact.
+	 * </p>
+	 *
+	 * @param maxEntries The maximum number of different values to keep. Must be greater than 0.
+	 * @return The current instance of collector to allow a fluent API
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	default StatisticsCollector approximate(int maxEntries) {
+		return this;
+	}
+
+	/**
+	 * Collect numbers into {@code numberOfBuckets} ranges of equal size between {@code min} and {@code max}
+	 * as soon as they are collected. Only a single count per range is kept, no matter how many
+	 * different numbers are collected. Numbers below {@code min} or above {@code max}
+	 * are counted in two additional ranges.
+	 *
+	 * <p>
+	 * The ranges are sorted by their position when reported with {@linkplain Histogram}.
+	 * {@linkplain StatisticsCoverage#check(Object...)} with a single number checks the count
+	 * of the range that number falls into.
+	 * </p>
+	 *
+	 * @param min             The lower end of the first range (included)
+	 * @param max             The upper end of the last range (included)
+	 * @param numberOfBuckets The number of ranges. Must be greater than 0.
+	 * @return The current instance of collector to allow a fluent API
+	 * @throws IllegalArgumentException if called with different ranges after values have been collected
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	default StatisticsCollector buckets(double min, double max, int numberOfBuckets) {
+		return this;
+	}
+
 }
@@ -0,0 +1,47 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.providers.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArbitraryResolutionBenchmarks {
+
+	private RegisteredArbitraryResolver resolver;
+
+	private final TypeUsage simpleType = TypeUsage.of(String.class);
+	private final TypeUsage parameterizedType = TypeUsage.of(
+		Map.class,
+		TypeUsage.of(String.class),
+		TypeUsage.of(List.class, TypeUsage.of(Integer.class))
+	);
+
+	@Setup
+	public void setup() {
+		resolver = new RegisteredArbitraryResolver(RegisteredArbitraryProviders.getProviders());
+	}
+
+	@Benchmark
+	public Set<Arbitrary<?>> resolveSimpleType() {
+		return resolver.resolve(simpleType, this::resolveSubtype);
+	}
+
+	@Benchmark
+	public Set<Arbitrary<?>> resolveParameterizedType() {
+		return resolver.resolve(parameterizedType, this::resolveSubtype);
+	}
+
+	private Set<Arbitrary<?>> resolveSubtype(TypeUsage subtype) {
+		return resolver.resolve(subtype, this::resolveSubtype);
+	}
+}
@@ -0,0 +1,45 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.sessions.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EdgeCasesBenchmarks {
+
+	private List<EdgeCases<Object>> edgeCases;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		// Creating edge cases requires a jqwik session because arbitraries are memoized in stores
+		JqwikSession.start();
+		try {
+			edgeCases = Arrays.asList(
+				(EdgeCases<Object>) (EdgeCases<?>) Arbitraries.integers().edgeCases(),
+				(EdgeCases<Object>) (EdgeCases<?>) Arbitraries.strings().alpha().ofMaxLength(10).edgeCases(),
+				(EdgeCases<Object>) (EdgeCases<?>) Arbitraries.doubles().list().ofMaxSize(5).edgeCases()
+			);
+		} finally {
+			JqwikSession.finish();
+		}
+	}
+
+	@Benchmark
+	public void allEdgeCaseCombinations(Blackhole blackhole) {
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(edgeCases);
+		while (generator.hasNext()) {
+			blackhole.consume(generator.next());
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+/**
+ * Check a satisfied property with 1000 tries and a single list parameter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericPropertyBenchmarks {
+
+	private static final int TRIES = 1000;
+
+	private PropertyConfiguration configuration;
+	private RandomGenerator<List<Integer>> lists;
+
+	private final TryLifecycleExecutor sumIsNotNegative = (context, parameters) -> {
+		@SuppressWarnings("unchecked")
+		List<Integer> list = (List<Integer>) parameters.get(0);
+		long sum = list.stream().mapToLong(i -> i).sum();
+		return sum >= 0 ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+	};
+
+	@Setup
+	public void setup() {
+		PropertyAttributesDefaults defaults = PropertyAttributesDefaults.with(
+			TRIES, 5,
+			AfterFailureMode.PREVIOUS_SEED, GenerationMode.RANDOMIZED, EdgeCasesMode.NONE,
+			ShrinkingMode.OFF, 10, false, false, 1,
+			FixedSeedMode.ALLOW, 1, ExhaustiveShard.ALL
+		);
+		PropertyAttributes attributes = new DefaultPropertyAttributes(
+			null, null, null, null, null, null, null, null, null, null
+		);
+		configuration = new PropertyConfiguration(attributes, defaults, GenerationInfo.NULL, null, null, null);
+		lists = RandomGenerators.list(
+			RandomGenerators.integers(0, 1000),
+			0, 20, 1001,
+			TRIES, RandomDistribution.biased(),
+			Collections.emptySet()
+		);
+	}
+
+	@Benchmark
+	public PropertyCheckResult check() {
+		GenericProperty property = new GenericProperty(
+			"benchmark property",
+			configuration,
+			new ListParametersGenerator(lists, new Random(42L)),
+			sumIsNotNegative,
+			// Only falsified properties and reporting access the try lifecycle context
+			() -> null
+		);
+		return property.check(NullReporter.INSTANCE, new Reporting[0]);
+	}
+
+	private static class ListParametersGenerator implements ParametersGenerator {
+
+		private final RandomGenerator<List<Integer>> generator;
+		private final Random random;
+		private int index = 0;
+
+		private ListParametersGenerator(RandomGenerator<List<Integer>> generator, Random random) {
+			this.generator = generator;
+			this.random = random;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return true;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public List<Shrinkable<Object>> next(TryLifecycleContext context) {
+			index++;
+			Shrinkable<?> shrinkable = generator.next(random);
+			return Collections.singletonList((Shrinkable<Object>) shrinkable);
+		}
+
+		@Override
+		public int edgeCasesTotal() {
+			return 0;
+		}
+
+		@Override
+		public int edgeCasesTried() {
+			return 0;
+		}
+
+		@Override
+		public GenerationInfo generationInfo(String randomSeed) {
+			return new GenerationInfo(randomSeed, index);
+		}
+
+		@Override
+		public void reset() {
+			index = 0;
+		}
+	}
+
+	private static class NullReporter implements Reporter {
+
+		private static final Reporter INSTANCE = new NullReporter();
+
+		@Override
+		public void publishValue(String key, String value) {
+		}
+
+		@Override
+		public void publishReport(String key, Object object) {
+		}
+
+		@Override
+		public void publishReports(String key, Map<String, Object> objects) {
+		}
+	}
+}
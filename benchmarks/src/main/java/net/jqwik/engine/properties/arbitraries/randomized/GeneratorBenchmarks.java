@@ -0,0 +1,64 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+	private RandomGenerator<String> strings;
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<Set<Integer>> sets;
+	private RandomGenerator<Integer> filtered;
+
+	@Setup
+	public void setup() {
+		random = new Random(42L);
+		RandomGenerator<Integer> integers = RandomGenerators.integers(-1000, 1000);
+		strings = RandomGenerators.strings(
+			RandomGenerators.chars('a', 'z'),
+			0, 100, 26,
+			GEN_SIZE, RandomDistribution.biased()
+		);
+		lists = RandomGenerators.list(
+			integers,
+			0, 100, 2001,
+			GEN_SIZE, RandomDistribution.biased(),
+			Collections.emptySet()
+		);
+		sets = RandomGenerators.set(integers, 0, 100, GEN_SIZE);
+		filtered = new FilteredGenerator<>(integers, i -> i % 3 == 0, 10000);
+	}
+
+	@Benchmark
+	public Shrinkable<String> strings() {
+		return strings.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<List<Integer>> list() {
+		return lists.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<Set<Integer>> set() {
+		return sets.next(random);
+	}
+
+	@Benchmark
+	public Shrinkable<Integer> filtered() {
+		return filtered.next(random);
+	}
+}
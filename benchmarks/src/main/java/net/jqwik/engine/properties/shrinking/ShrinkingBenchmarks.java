@@ -0,0 +1,77 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShrinkingBenchmarks {
+
+	private FalsifiedSample listSample;
+	private FalsifiedSample stringSample;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42L);
+
+		RandomGenerator<List<Integer>> lists = RandomGenerators.list(
+			RandomGenerators.integers(0, 10000),
+			50, 100, 10001,
+			1000, RandomDistribution.uniform(),
+			Collections.emptySet()
+		);
+		listSample = falsifiedSample(lists.next(random));
+
+		RandomGenerator<String> strings = RandomGenerators.strings(
+			RandomGenerators.chars('a', 'z'),
+			50, 100, 26,
+			1000, RandomDistribution.uniform()
+		);
+		stringSample = falsifiedSample(strings.next(random));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FalsifiedSample falsifiedSample(Shrinkable<?> shrinkable) {
+		List<Shrinkable<Object>> shrinkables = Collections.singletonList((Shrinkable<Object>) shrinkable);
+		List<Object> parameters = Collections.singletonList(shrinkable.value());
+		return new FalsifiedSampleImpl(parameters, shrinkables, Optional.empty(), Collections.emptyList());
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public ShrunkFalsifiedSample shrinkList() {
+		// Falsified as long as the list has at least 5 elements greater than 1000
+		Falsifier<List<Object>> falsifier = params -> {
+			List<Integer> list = (List<Integer>) params.get(0);
+			long large = list.stream().filter(i -> i > 1000).count();
+			return large >= 5 ? TryExecutionResult.falsified(null) : TryExecutionResult.satisfied();
+		};
+		return shrinker(listSample).shrink(falsifier);
+	}
+
+	@Benchmark
+	public ShrunkFalsifiedSample shrinkString() {
+		// Falsified as long as the string contains at least 3 characters from 'n' on
+		Falsifier<List<Object>> falsifier = params -> {
+			String string = (String) params.get(0);
+			long late = string.chars().filter(c -> c >= 'n').count();
+			return late >= 3 ? TryExecutionResult.falsified(null) : TryExecutionResult.satisfied();
+		};
+		return shrinker(stringSample).shrink(falsifier);
+	}
+
+	private static PropertyShrinker shrinker(FalsifiedSample sample) {
+		return new PropertyShrinker(sample, ShrinkingMode.FULL, 0, ignore -> {}, null);
+	}
+}
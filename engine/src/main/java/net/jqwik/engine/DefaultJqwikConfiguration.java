@@ -7,6 +7,7 @@ import java.util.logging.*;
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.support.*;
+import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.recording.*;
 
 public class DefaultJqwikConfiguration implements JqwikConfiguration {
@@ -34,7 +35,12 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
-			properties.fixedSeedMode()
+			properties.lazyShrinkables(),
+			properties.choiceSequenceShrinking(),
+			properties.shrinkingParallelism(),
+			properties.fixedSeedMode(),
+			properties.defaultParallelism(),
+			properties.exhaustiveShard()
 		);
 	}
 
@@ -56,6 +62,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public int parallelism() {
+		return properties.parallelism();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
@@ -87,6 +98,9 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 	private TestEngineConfiguration testEngineConfigurationFromDatabase(String databasePath) {
 		TestRunDatabase database = new TestRunDatabase(Paths.get(databasePath));
 		TestRunData previousRun = database.previousRun();
+		DiscoveryCache discoveryCache = properties.discoveryCache()
+			? DiscoveryCache.load(Paths.get(databasePath + ".discovery"))
+			: DiscoveryCache.NONE;
 		return new TestEngineConfiguration() {
 			@Override
 			public TestRunRecorder recorder() {
@@ -104,6 +118,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 					return Collections.emptySet();
 				return previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId).collect(CollectorsSupport.toLinkedHashSet());
 			}
+
+			@Override
+			public DiscoveryCache discoveryCache() {
+				return discoveryCache;
+			}
 		};
 	}
 }
@@ -9,6 +9,7 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.config.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 
 public class JqwikProperties {
 
@@ -27,6 +28,13 @@ public class JqwikProperties {
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final boolean DEFAULT_LAZY_SHRINKABLES = false;
+	private static final boolean DEFAULT_CHOICE_SEQUENCE_SHRINKING = false;
+	private static final int DEFAULT_SHRINKING_PARALLELISM = 1;
+	private static final int DEFAULT_PARALLELISM = 1;
+	private static final int DEFAULT_TRIES_PARALLELISM = 1;
+	private static final boolean DEFAULT_DISCOVERY_CACHE = false;
+	private static final ExhaustiveShard DEFAULT_EXHAUSTIVE_SHARD = ExhaustiveShard.ALL;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -43,7 +51,14 @@ public class JqwikProperties {
 	private final EdgeCasesMode defaultEdgeCases;
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
+	private final boolean lazyShrinkables;
+	private final boolean choiceSequenceShrinking;
+	private final int shrinkingParallelism;
 	private final FixedSeedMode fixedSeedMode;
+	private final int parallelism;
+	private final int defaultParallelism;
+	private final boolean discoveryCache;
+	private final ExhaustiveShard exhaustiveShard;
 
 	public String databasePath() {
 		return databasePath;
@@ -89,10 +104,38 @@ public class JqwikProperties {
 		return boundedShrinkingSeconds;
 	}
 
+	public boolean lazyShrinkables() {
+		return lazyShrinkables;
+	}
+
+	public boolean choiceSequenceShrinking() {
+		return choiceSequenceShrinking;
+	}
+
+	public int shrinkingParallelism() {
+		return shrinkingParallelism;
+	}
+
 	public FixedSeedMode fixedSeedMode() {
 		return fixedSeedMode;
 	}
 
+	public int parallelism() {
+		return parallelism;
+	}
+
+	public int defaultParallelism() {
+		return defaultParallelism;
+	}
+
+	public boolean discoveryCache() {
+		return discoveryCache;
+	}
+
+	public ExhaustiveShard exhaustiveShard() {
+		return exhaustiveShard;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
@@ -105,7 +148,14 @@ public class JqwikProperties {
 		defaultEdgeCases = parameters.get("edgecases.default", EdgeCasesMode::valueOf).orElse(DEFAULT_EDGE_CASES);
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
+		lazyShrinkables = parameters.getBoolean("shrinkables.lazy").orElse(DEFAULT_LAZY_SHRINKABLES);
+		choiceSequenceShrinking = parameters.getBoolean("shrinking.choicesequence").orElse(DEFAULT_CHOICE_SEQUENCE_SHRINKING);
+		shrinkingParallelism = parameters.get("shrinking.parallelism", Integer::parseInt).orElse(DEFAULT_SHRINKING_PARALLELISM);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		parallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(DEFAULT_PARALLELISM);
+		defaultParallelism = parameters.get("parallelism.default", Integer::parseInt).orElse(DEFAULT_TRIES_PARALLELISM);
+		discoveryCache = parameters.getBoolean("discovery.cache").orElse(DEFAULT_DISCOVERY_CACHE);
+		exhaustiveShard = parameters.get("exhaustive.shard", ExhaustiveShard::parse).orElse(DEFAULT_EXHAUSTIVE_SHARD);
 	}
 
 	static JqwikProperties load(ConfigurationParameters fromJunit) {
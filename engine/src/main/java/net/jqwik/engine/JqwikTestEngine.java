@@ -9,6 +9,8 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -37,7 +39,8 @@ public class JqwikTestEngine implements TestEngine {
 	public TestDescriptor discover(EngineDiscoveryRequest request, UniqueId uniqueId) {
 		JqwikConfiguration configuration = buildConfiguration(request.getConfigurationParameters());
 		TestDescriptor engineDescriptor = new JqwikEngineDescriptor(uniqueId, configuration);
-		new JqwikDiscoverer(configuration.testEngineConfiguration().previousRun(), configuration.propertyDefaultValues())
+		TestEngineConfiguration testEngineConfiguration = configuration.testEngineConfiguration();
+		new JqwikDiscoverer(testEngineConfiguration.previousRun(), configuration.propertyDefaultValues(), testEngineConfiguration.discoveryCache())
 			.discover(request, engineDescriptor);
 
 		return engineDescriptor;
@@ -66,8 +69,14 @@ public class JqwikTestEngine implements TestEngine {
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.parallelism()
 			).execute(root, listener);
+		} finally {
+			LOG.fine(Memoize::statistics);
+			LOG.fine(ArbitraryResolutionCache::statistics);
+			Memoize.clear();
+			ArbitraryResolutionCache.clear();
 		}
 	}
 
@@ -1,6 +1,7 @@
 package net.jqwik.engine;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 
 public interface PropertyAttributesDefaults {
 
@@ -15,10 +16,23 @@ public interface PropertyAttributesDefaults {
 	EdgeCasesMode edgeCases();
 	String stereotype();
 	FixedSeedMode whenFixedSeed();
+	int parallelism();
 
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	boolean lazyShrinkables();
+
+	// This is currently a global parameter
+	boolean choiceSequenceShrinking();
+
+	// This is currently a global parameter
+	int shrinkingParallelism();
+
+	// This is currently a global parameter
+	ExhaustiveShard exhaustiveShard();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -27,7 +41,12 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		boolean lazyShrinkables,
+		boolean choiceSequenceShrinking,
+		int shrinkingParallelism,
+		FixedSeedMode fixedSeedMode,
+		int parallelism,
+		ExhaustiveShard exhaustiveShard
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -70,10 +89,35 @@ public interface PropertyAttributesDefaults {
 				return boundedShrinkingSeconds;
 			}
 
+			@Override
+			public boolean lazyShrinkables() {
+				return lazyShrinkables;
+			}
+
+			@Override
+			public boolean choiceSequenceShrinking() {
+				return choiceSequenceShrinking;
+			}
+
+			@Override
+			public int shrinkingParallelism() {
+				return shrinkingParallelism;
+			}
+
 			@Override
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public int parallelism() {
+				return parallelism;
+			}
+
+			@Override
+			public ExhaustiveShard exhaustiveShard() {
+				return exhaustiveShard;
+			}
 		};
 	}
 }
@@ -5,6 +5,7 @@ import java.util.concurrent.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
 
 public class SourceOfRandomness {
 
@@ -41,22 +42,65 @@ public class SourceOfRandomness {
 		return current.get();
 	}
 
+	/**
+	 * Capture the state of a random that has been created by this class.
+	 * Randoms created from the state will produce the same values as {@code random}
+	 * would produce from now on.
+	 */
+	public static Optional<RandomState> stateOf(Random random) {
+		if (random instanceof XORShiftRandom) {
+			return Optional.of(((XORShiftRandom) random).state());
+		}
+		return Optional.empty();
+	}
+
+	public static final class RandomState {
+		private final long seed;
+		private final boolean haveNextNextGaussian;
+		private final double nextNextGaussian;
+
+		private RandomState(long seed, boolean haveNextNextGaussian, double nextNextGaussian) {
+			this.seed = seed;
+			this.haveNextNextGaussian = haveNextNextGaussian;
+			this.nextNextGaussian = nextNextGaussian;
+		}
+
+		public Random newRandom() {
+			XORShiftRandom random = new XORShiftRandom(seed);
+			random.haveNextNextGaussian = haveNextNextGaussian;
+			random.nextNextGaussian = nextNextGaussian;
+			return random;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			RandomState that = (RandomState) o;
+			return seed == that.seed
+					   && haveNextNextGaussian == that.haveNextNextGaussian
+					   && Double.compare(nextNextGaussian, that.nextNextGaussian) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(seed);
+		}
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
 	 *
 	 * See for details: https://www.javamex.com/tutorials/random_numbers/xorshift.shtml
-	 *
-	 * <p>
-	 * For further performance improvements within jqwik, consider to override:
-	 * <ul>
-	 *     <li>nextDouble()</li>
-	 *     <li>nextBytes(int)</li>
-	 * </ul>
 	 */
-	private static class XORShiftRandom extends Random {
+	private static class XORShiftRandom extends LongBasedRandom {
 		private long seed;
 
+		// Gaussian state is kept here instead of in java.util.Random so that it can be captured
+		private boolean haveNextNextGaussian = false;
+		private double nextNextGaussian;
+
 		private XORShiftRandom() {
 			this(System.nanoTime());
 		}
@@ -68,13 +112,6 @@ public class SourceOfRandomness {
 			this.seed = seed;
 		}
 
-		@Override
-		protected int next(int nbits) {
-			long x = nextLong();
-			x &= ((1L << nbits) - 1);
-			return (int) x;
-		}
-
 		/**
 		 * Will never generate 0L
 		 */
@@ -87,5 +124,30 @@ public class SourceOfRandomness {
 			this.seed = x;
 			return x;
 		}
+
+		/**
+		 * Same algorithm as in {@linkplain Random#nextGaussian()}
+		 */
+		@Override
+		public double nextGaussian() {
+			if (haveNextNextGaussian) {
+				haveNextNextGaussian = false;
+				return nextNextGaussian;
+			}
+			double v1, v2, s;
+			do {
+				v1 = 2 * nextDouble() - 1;
+				v2 = 2 * nextDouble() - 1;
+				s = v1 * v1 + v2 * v2;
+			} while (s >= 1 || s == 0);
+			double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+			nextNextGaussian = v2 * multiplier;
+			haveNextNextGaussian = true;
+			return v1 * multiplier;
+		}
+
+		private RandomState state() {
+			return new RandomState(seed, haveNextNextGaussian, nextNextGaussian);
+		}
 	}
 }
@@ -4,6 +4,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.properties.*;
 
 public class PropertyConfiguration {
 
@@ -131,10 +132,35 @@ public class PropertyConfiguration {
 	public int boundedShrinkingSeconds() {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
+
+	// This is currently a global value and not property specific
+	public boolean lazyShrinkables() {
+		return propertyAttributesDefaults.lazyShrinkables();
+	}
+
+	// This is currently a global value and not property specific
+	public boolean choiceSequenceShrinking() {
+		return propertyAttributesDefaults.choiceSequenceShrinking();
+	}
+
+	// This is currently a global value and not property specific
+	public int shrinkingParallelism() {
+		return propertyAttributesDefaults.shrinkingParallelism();
+	}
+
+	// This is currently a global value and not property specific
+	public ExhaustiveShard exhaustiveShard() {
+		return propertyAttributesDefaults.exhaustiveShard();
+	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
 
+	public int getParallelism() {
+		return propertyAttributes.parallelism().orElse(propertyAttributesDefaults.parallelism());
+	}
+
 	public boolean hasFixedSeed() {
 		return !getSeed().equals(Property.SEED_NOT_SET);
 	}
@@ -43,6 +43,10 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 											  ? null
 											  : property.whenFixedSeed();
 
+		Integer parallelism = property.parallelism() == Property.PARALLELISM_NOT_SET
+								  ? null
+								  : property.parallelism();
+
 		return new DefaultPropertyAttributes(
 			tries,
 			maxDiscardRatio,
@@ -52,7 +56,8 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			edgeCases,
 			stereotype,
 			seed,
-			whenFixedSeed
+			whenFixedSeed,
+			parallelism
 		);
 	}
 
@@ -65,6 +70,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	private String stereotype;
 	private String seed;
 	private FixedSeedMode whenFixedSeed;
+	private Integer parallelism;
 
 	// Only public for testing purposes
 	public DefaultPropertyAttributes(
@@ -77,6 +83,22 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			String stereotype,
 			String seed,
 			FixedSeedMode whenFixedSeed
+	) {
+		this(tries, maxDiscardRatio, shrinkingMode, generationMode, afterFailureMode, edgeCasesMode, stereotype, seed, whenFixedSeed, null);
+	}
+
+	// Only public for testing purposes
+	public DefaultPropertyAttributes(
+			Integer tries,
+			Integer maxDiscardRatio,
+			ShrinkingMode shrinkingMode,
+			GenerationMode generationMode,
+			AfterFailureMode afterFailureMode,
+			EdgeCasesMode edgeCasesMode,
+			String stereotype,
+			String seed,
+			FixedSeedMode whenFixedSeed,
+			Integer parallelism
 	) {
 		this.tries = tries;
 		this.maxDiscardRatio = maxDiscardRatio;
@@ -87,6 +109,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		this.stereotype = stereotype;
 		this.seed = seed;
 		this.whenFixedSeed = whenFixedSeed;
+		this.parallelism = parallelism;
 	}
 
 	@Override
@@ -134,6 +157,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		return Optional.ofNullable(whenFixedSeed);
 	}
 
+	@Override
+	public Optional<Integer> parallelism() {
+		return Optional.ofNullable(parallelism);
+	}
+
 	@Override
 	public void setTries(Integer tries) {
 		this.tries = tries;
@@ -178,4 +206,9 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	public void setWhenFixedSeed(FixedSeedMode fixedSeedMode) {
 		this.whenFixedSeed = fixedSeedMode;
 	}
+
+	@Override
+	public void setParallelism(Integer parallelism) {
+		this.parallelism = parallelism;
+	}
 }
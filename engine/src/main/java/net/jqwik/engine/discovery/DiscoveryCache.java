@@ -0,0 +1,233 @@
+package net.jqwik.engine.discovery;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+import java.util.zip.*;
+
+/**
+ * Remembers classes that have been scanned in a previous run and turned out not to be test containers.
+ * As long as the class files of such a class, its super types and its nested classes are unchanged
+ * the class is neither loaded nor scanned again when discovering tests in class path roots, packages or modules.
+ *
+ * <p>
+ * The cache is written to a single file that is replaced as a whole.
+ * Concurrent processes might overwrite each other's entries, which only leads to classes being scanned again.
+ * </p>
+ */
+public class DiscoveryCache {
+
+	public static final DiscoveryCache NONE = new DiscoveryCache(null, Collections.emptyMap());
+
+	private static final Logger LOG = Logger.getLogger(DiscoveryCache.class.getName());
+
+	private static final int MAGIC = 0x6A71646B; // "jqdk"
+	private static final int VERSION = 1;
+
+	private final Path cachePath;
+	private final Map<String, Entry> entries;
+	private boolean changed = false;
+
+	public static DiscoveryCache load(Path cachePath) {
+		return new DiscoveryCache(cachePath, readEntries(cachePath));
+	}
+
+	private DiscoveryCache(Path cachePath, Map<String, Entry> entries) {
+		this.cachePath = cachePath;
+		this.entries = new LinkedHashMap<>(entries);
+	}
+
+	/**
+	 * Used as class name filter during class path scanning.
+	 *
+	 * @return false if the class is known to not be a test container
+	 */
+	public synchronized boolean mightBeTestContainer(String className) {
+		if (cachePath == null) {
+			return true;
+		}
+		Entry entry = entries.get(className);
+		if (entry == null) {
+			return true;
+		}
+		Optional<Long> fingerprint = fingerprint(className, entry.dependencies);
+		if (fingerprint.isPresent() && fingerprint.get() == entry.fingerprint) {
+			return false;
+		}
+		entries.remove(className);
+		changed = true;
+		return true;
+	}
+
+	public synchronized void record(Class<?> candidate, boolean isTestContainer) {
+		if (cachePath == null) {
+			return;
+		}
+		if (isTestContainer) {
+			changed |= entries.remove(candidate.getName()) != null;
+			return;
+		}
+		List<String> dependencies;
+		try {
+			dependencies = dependencies(candidate);
+		} catch (LinkageError | SecurityException cannotInspect) {
+			return;
+		}
+		fingerprint(candidate.getName(), dependencies).ifPresent(fingerprint -> {
+			Entry entry = new Entry(fingerprint, dependencies);
+			changed |= !entry.equals(entries.put(candidate.getName(), entry));
+		});
+	}
+
+	public synchronized void save() {
+		if (cachePath == null || !changed) {
+			return;
+		}
+		Path tempPath = null;
+		try {
+			// Every process writes its own temporary file, e.g. when several Gradle test forks save at the same time
+			Path directory = cachePath.toAbsolutePath().getParent();
+			tempPath = Files.createTempFile(directory, cachePath.getFileName().toString(), ".tmp");
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+				writeEntries(output, entries);
+			}
+			try {
+				Files.move(tempPath, cachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException notSupported) {
+				Files.move(tempPath, cachePath, StandardCopyOption.REPLACE_EXISTING);
+			}
+			changed = false;
+		} catch (IOException e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot write discovery cache [%s]", cachePath.toAbsolutePath()));
+		} finally {
+			try {
+				if (tempPath != null) {
+					Files.deleteIfExists(tempPath);
+				}
+			} catch (IOException ignore) {
+			}
+		}
+	}
+
+	// Whether a class is a test container also depends on inherited methods and on nested group classes
+	private static List<String> dependencies(Class<?> candidate) {
+		Set<String> dependencies = new LinkedHashSet<>();
+		collectDependencies(candidate, dependencies);
+		dependencies.remove(candidate.getName());
+		return new ArrayList<>(dependencies);
+	}
+
+	private static void collectDependencies(Class<?> type, Set<String> dependencies) {
+		if (type == null || isJdkClass(type) || !dependencies.add(type.getName())) {
+			return;
+		}
+		collectDependencies(type.getSuperclass(), dependencies);
+		for (Class<?> anInterface : type.getInterfaces()) {
+			collectDependencies(anInterface, dependencies);
+		}
+		for (Class<?> nestedClass : type.getDeclaredClasses()) {
+			collectDependencies(nestedClass, dependencies);
+		}
+	}
+
+	private static boolean isJdkClass(Class<?> type) {
+		return type.isPrimitive() || type.getName().startsWith("java.");
+	}
+
+	private static Optional<Long> fingerprint(String className, List<String> dependencies) {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[8192];
+		List<String> classNames = new ArrayList<>();
+		classNames.add(className);
+		classNames.addAll(dependencies);
+		for (String name : classNames) {
+			String resourceName = name.replace('.', '/') + ".class";
+			try (InputStream classFile = classLoader().getResourceAsStream(resourceName)) {
+				if (classFile == null) {
+					return Optional.empty();
+				}
+				crc.update(name.getBytes(StandardCharsets.UTF_8));
+				int read;
+				while ((read = classFile.read(buffer)) != -1) {
+					crc.update(buffer, 0, read);
+				}
+			} catch (IOException cannotRead) {
+				return Optional.empty();
+			}
+		}
+		return Optional.of(crc.getValue());
+	}
+
+	private static ClassLoader classLoader() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return contextClassLoader != null ? contextClassLoader : DiscoveryCache.class.getClassLoader();
+	}
+
+	private static Map<String, Entry> readEntries(Path cachePath) {
+		if (!Files.exists(cachePath)) {
+			return Collections.emptyMap();
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cachePath)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+				LOG.log(Level.INFO, () -> String.format("Discovery cache [%s] has unknown format and will be recreated", cachePath.toAbsolutePath()));
+				return Collections.emptyMap();
+			}
+			Map<String, Entry> entries = new HashMap<>();
+			int size = input.readInt();
+			for (int i = 0; i < size; i++) {
+				String className = input.readUTF();
+				long fingerprint = input.readLong();
+				int countDependencies = input.readInt();
+				List<String> dependencies = new ArrayList<>(countDependencies);
+				for (int j = 0; j < countDependencies; j++) {
+					dependencies.add(input.readUTF());
+				}
+				entries.put(className, new Entry(fingerprint, dependencies));
+			}
+			return entries;
+		} catch (IOException e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot read discovery cache [%s]", cachePath.toAbsolutePath()));
+			return Collections.emptyMap();
+		}
+	}
+
+	private static void writeEntries(DataOutputStream output, Map<String, Entry> entries) throws IOException {
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeInt(entries.size());
+		for (Map.Entry<String, Entry> classAndEntry : entries.entrySet()) {
+			Entry entry = classAndEntry.getValue();
+			output.writeUTF(classAndEntry.getKey());
+			output.writeLong(entry.fingerprint);
+			output.writeInt(entry.dependencies.size());
+			for (String dependency : entry.dependencies) {
+				output.writeUTF(dependency);
+			}
+		}
+	}
+
+	private static class Entry {
+		private final long fingerprint;
+		private final List<String> dependencies;
+
+		private Entry(long fingerprint, List<String> dependencies) {
+			this.fingerprint = fingerprint;
+			this.dependencies = dependencies;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Entry other = (Entry) o;
+			return fingerprint == other.fingerprint && dependencies.equals(other.dependencies);
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(fingerprint);
+		}
+	}
+}
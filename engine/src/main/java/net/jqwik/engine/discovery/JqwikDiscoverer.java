@@ -17,20 +17,27 @@ import static org.junit.platform.engine.Filter.*;
 
 public class JqwikDiscoverer {
 
-	private static final IsScannableContainerClass isScannableTestClass = new IsScannableContainerClass();
+	private static final IsScannableContainerClass isScannableContainerClass = new IsScannableContainerClass();
 
 	private final TestRunData testRunData;
 	private final PropertyAttributesDefaults propertyDefaultValues;
+	private final DiscoveryCache discoveryCache;
 
 	public JqwikDiscoverer(TestRunData testRunData, PropertyAttributesDefaults propertyDefaultValues) {
+		this(testRunData, propertyDefaultValues, DiscoveryCache.NONE);
+	}
+
+	public JqwikDiscoverer(TestRunData testRunData, PropertyAttributesDefaults propertyDefaultValues, DiscoveryCache discoveryCache) {
 		this.testRunData = testRunData;
 		this.propertyDefaultValues = propertyDefaultValues;
+		this.discoveryCache = discoveryCache;
 	}
 
 	public void discover(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
 		HierarchicalJavaResolver javaElementsResolver = createHierarchicalResolver(engineDescriptor);
 		EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
-		Predicate<String> classNamePredicate = buildClassNamePredicate(request);
+		Predicate<String> classNamePredicate = buildClassNamePredicate(request).and(discoveryCache::mightBeTestContainer);
+		Predicate<Class<?>> isScannableTestClass = this::isScannableTestClass;
 
 		request.getSelectorsByType(ModuleSelector.class).forEach(selector -> {
 			findAllClassesInModule(selector.getModuleName(), isScannableTestClass, classNamePredicate)
@@ -84,6 +91,13 @@ public class JqwikDiscoverer {
 				javaElementsResolver.resolveUniqueId(selector.getUniqueId())
 			);
 		});
+		discoveryCache.save();
+	}
+
+	private boolean isScannableTestClass(Class<?> candidate) {
+		boolean isTestContainer = isScannableContainerClass.test(candidate);
+		discoveryCache.record(candidate, isTestContainer);
+		return isTestContainer;
 	}
 
 	private Method getJavaMethodWithSpecialKotlinHandling(MethodSelector selector) {
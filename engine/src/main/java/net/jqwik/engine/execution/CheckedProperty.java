@@ -27,6 +27,7 @@ public class CheckedProperty {
 	private final ResolveParameterHook resolveParameterHook;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final Optional<Iterable<? extends Tuple>> optionalData;
+	private final PropertyExecutionMetricsRecorder metricsRecorder;
 	private Optional<ExhaustiveShrinkablesGenerator> optionalExhaustive;
 
 	public CheckedProperty(
@@ -38,6 +39,30 @@ public class CheckedProperty {
 		PropertyLifecycleContext propertyLifecycleContext,
 		Optional<Iterable<? extends Tuple>> optionalData,
 		PropertyConfiguration configuration
+	) {
+		this(
+			propertyName,
+			tryLifecycleExecutor,
+			propertyParameters,
+			arbitraryResolver,
+			resolveParameterHook,
+			propertyLifecycleContext,
+			optionalData,
+			configuration,
+			new PropertyExecutionMetricsRecorder()
+		);
+	}
+
+	public CheckedProperty(
+		String propertyName,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		List<MethodParameter> propertyParameters,
+		ArbitraryResolver arbitraryResolver,
+		ResolveParameterHook resolveParameterHook,
+		PropertyLifecycleContext propertyLifecycleContext,
+		Optional<Iterable<? extends Tuple>> optionalData,
+		PropertyConfiguration configuration,
+		PropertyExecutionMetricsRecorder metricsRecorder
 	) {
 		this.propertyName = propertyName;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
@@ -48,6 +73,7 @@ public class CheckedProperty {
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.optionalData = optionalData;
 		this.configuration = configuration;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	private List<MethodParameter> selectForAllParameters(List<MethodParameter> propertyParameters) {
@@ -64,7 +90,8 @@ public class CheckedProperty {
 		maybeWarnOnMultipleTriesWithoutForallParameters(effectiveConfiguration);
 		try {
 			Reporter reporter = propertyLifecycleContext.reporter();
-			return createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			GenericProperty genericProperty = metricsRecorder.measureSetup(() -> createGenericProperty(effectiveConfiguration));
+			return genericProperty.check(reporter, reporting);
 		} catch (CannotFindArbitraryException | TooManyFilterMissesException generationFailedException) {
 			return failed(effectiveConfiguration, generationFailedException);
 		}
@@ -76,7 +103,7 @@ public class CheckedProperty {
 			new GenerationInfo(configuration.getSeed()), configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(), 0, 0,
 			null, null, exception
-		);
+		).withMetrics(metricsRecorder.metrics());
 	}
 
 	private void maybeWarnOnMultipleTriesWithoutForallParameters(PropertyConfiguration effectiveConfiguration) {
@@ -163,7 +190,14 @@ public class CheckedProperty {
 		}
 
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> new DefaultTryLifecycleContext(propertyLifecycleContext);
-		return new GenericProperty(propertyName, effectiveConfiguration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier);
+		return new GenericProperty(
+			propertyName,
+			effectiveConfiguration,
+			parametersGenerator,
+			tryLifecycleExecutor,
+			tryLifecycleContextSupplier,
+			metricsRecorder
+		);
 	}
 
 	private ForAllParametersGenerator createForAllParametersGenerator(PropertyConfiguration effectiveConfiguration) {
@@ -215,7 +249,7 @@ public class CheckedProperty {
 		}
 		try {
 			ExhaustiveShrinkablesGenerator exhaustiveShrinkablesGenerator =
-				ExhaustiveShrinkablesGenerator.forParameters(forAllParameters, arbitraryResolver, maxNumberOfSamples);
+				ExhaustiveShrinkablesGenerator.forParameters(forAllParameters, arbitraryResolver, maxNumberOfSamples, configuration.exhaustiveShard());
 			return Optional.of(exhaustiveShrinkablesGenerator);
 		} catch (TooManyFilterMissesException tmfme) {
 			throw tmfme;
@@ -238,7 +272,9 @@ public class CheckedProperty {
 			arbitraryResolver,
 			random,
 			configuration.getTries(),
-			configuration.getEdgeCasesMode()
+			configuration.getEdgeCasesMode(),
+			configuration.lazyShrinkables(),
+			configuration.choiceSequenceShrinking()
 		);
 	}
 
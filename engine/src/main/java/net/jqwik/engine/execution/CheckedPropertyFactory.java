@@ -25,7 +25,8 @@ public class CheckedPropertyFactory {
 		Method propertyMethod = propertyMethodDescriptor.getTargetMethod();
 		PropertyConfiguration configuration = propertyMethodDescriptor.getConfiguration();
 
-		TryLifecycleExecutor tryLifecycleExecutor = createTryExecutor(propertyMethodDescriptor, propertyLifecycleContext, aroundTry, invokeMethod);
+		PropertyExecutionMetricsRecorder metricsRecorder = new PropertyExecutionMetricsRecorder();
+		TryLifecycleExecutor tryLifecycleExecutor = createTryExecutor(propertyMethodDescriptor, propertyLifecycleContext, aroundTry, invokeMethod, metricsRecorder);
 		List<MethodParameter> propertyParameters = extractParameters(propertyMethod, propertyMethodDescriptor.getContainerClass());
 
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
@@ -45,7 +46,8 @@ public class CheckedPropertyFactory {
 			parameterResolver,
 			propertyLifecycleContext,
 			optionalData,
-			configuration
+			configuration,
+			metricsRecorder
 		);
 	}
 
@@ -53,7 +55,8 @@ public class CheckedPropertyFactory {
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
 		AroundTryHook aroundTry,
-		InvokePropertyMethodHook invokeMethod
+		InvokePropertyMethodHook invokeMethod,
+		PropertyExecutionMetricsRecorder metricsRecorder
 	) {
 		AroundTryHook aroundTryWithFinishing = (context, aTry, parameters) -> {
 			try {
@@ -63,20 +66,22 @@ public class CheckedPropertyFactory {
 			}
 		};
 
-		TryExecutor rawExecutor = createRawExecutor(propertyLifecycleContext, invokeMethod);
+		TryExecutor rawExecutor = createRawExecutor(propertyLifecycleContext, invokeMethod, metricsRecorder);
 		return new AroundTryLifecycle(rawExecutor, aroundTryWithFinishing);
 	}
 
 	private TryExecutor createRawExecutor(
 		PropertyLifecycleContext propertyLifecycleContext,
-		InvokePropertyMethodHook invokeMethod
+		InvokePropertyMethodHook invokeMethod,
+		PropertyExecutionMetricsRecorder metricsRecorder
 	) {
-		return createRawFunction(propertyLifecycleContext, invokeMethod);
+		return createRawFunction(propertyLifecycleContext, invokeMethod, metricsRecorder);
 	}
 
 	private CheckedFunction createRawFunction(
 		PropertyLifecycleContext propertyLifecycleContext,
-		InvokePropertyMethodHook invokeMethod
+		InvokePropertyMethodHook invokeMethod,
+		PropertyExecutionMetricsRecorder metricsRecorder
 	) {
 		Method targetMethod = propertyLifecycleContext.targetMethod();
 		Function<List<Object>, Object> function = params -> {
@@ -88,7 +93,7 @@ public class CheckedPropertyFactory {
 		};
 
 		return params -> {
-			Object result = function.apply(params);
+			Object result = metricsRecorder.measurePropertyMethod(() -> function.apply(params));
 			return result == null || !Boolean.FALSE.equals(result);
 		};
 	}
@@ -16,6 +16,9 @@ import net.jqwik.engine.support.*;
 
 class ContainerTaskCreator {
 
+	// The finish task of each created container by its prepare task - until the parent container has taken it
+	private final Map<ExecutionTask, ExecutionTask> finishTasks = new IdentityHashMap<>();
+
 	ExecutionTask createTask(
 		TestDescriptor containerDescriptor,
 		ExecutionTaskCreator childTaskCreator,
@@ -98,11 +101,23 @@ class ContainerTaskCreator {
 		if (childrenTasks.length == 0)
 			pipeline.submit(finishContainerTask, prepareContainerTask);
 		else
-			pipeline.submit(finishContainerTask, childrenTasks);
+			pipeline.submit(finishContainerTask, completionTasks(childrenTasks));
 
+		finishTasks.put(prepareContainerTask, finishContainerTask);
 		return prepareContainerTask;
 	}
 
+	// A child container is only completed when its finish task has run, i.e. after all of its own children.
+	// Waiting for the child's prepare task is not enough when tasks run in parallel.
+	private ExecutionTask[] completionTasks(ExecutionTask[] childrenTasks) {
+		return Arrays.stream(childrenTasks)
+					 .map(childTask -> {
+						 ExecutionTask finishTask = finishTasks.remove(childTask);
+						 return finishTask != null ? finishTask : childTask;
+					 })
+					 .toArray(ExecutionTask[]::new);
+	}
+
 	private ContainerLifecycleContext createLifecycleContext(
 		TestDescriptor containerDescriptor,
 		Reporter reporter,
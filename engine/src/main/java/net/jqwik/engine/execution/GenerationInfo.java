@@ -15,8 +15,7 @@ public class GenerationInfo implements Serializable {
 	private final String randomSeed;
 	private final int generationIndex;
 
-	// Store ordinals instead of enum objects so that serialization
-	// in jqwik.database uses less disk space
+	// Store ordinals instead of enum objects so that serialization uses less space
 	private final List<List<Byte>> byteSequences;
 
 	public GenerationInfo(String randomSeed) {
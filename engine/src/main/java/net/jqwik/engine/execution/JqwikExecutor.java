@@ -17,6 +17,7 @@ public class JqwikExecutor {
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
+	private final int parallelism;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -29,21 +30,40 @@ public class JqwikExecutor {
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
 		boolean reportOnlyFailures
+	) {
+		this(registry, recorder, previousFailedTests, useJunitPlatformReporter, reportOnlyFailures, 1);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		Set<UniqueId> previousFailedTests,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		int parallelism
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.parallelism = parallelism;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener, parallelism);
 		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
 		pipeline.submit(mainTask);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
-		pipeline.runToTermination();
+		StoreRepository storeRepository = StoreRepository.getCurrent();
+		boolean propertiesRanConcurrently = storeRepository.propertiesRunConcurrently();
+		storeRepository.setPropertiesRunConcurrently(propertiesRanConcurrently || parallelism > 1);
+		try {
+			pipeline.runToTermination();
+		} finally {
+			storeRepository.setPropertiesRunConcurrently(propertiesRanConcurrently);
+		}
 	}
 
 	private void letNonSuccessfulTestsExecuteFirst(ExecutionPipeline pipeline) {
@@ -0,0 +1,88 @@
+package net.jqwik.engine.execution;
+
+import java.time.*;
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+
+class PropertyExecutionMetricsImpl implements PropertyExecutionMetrics {
+
+	private final Duration setupTime;
+	private final Duration generationTime;
+	private final Duration aroundTryTime;
+	private final Duration propertyMethodTime;
+	private final Duration shrinkingTime;
+	private final int countMeasuredTries;
+	private final int countShrinkingSteps;
+	private final OptionalLong allocatedBytes;
+
+	PropertyExecutionMetricsImpl(
+		Duration setupTime,
+		Duration generationTime,
+		Duration aroundTryTime,
+		Duration propertyMethodTime,
+		Duration shrinkingTime,
+		int countMeasuredTries,
+		int countShrinkingSteps,
+		OptionalLong allocatedBytes
+	) {
+		this.setupTime = setupTime;
+		this.generationTime = generationTime;
+		this.aroundTryTime = aroundTryTime;
+		this.propertyMethodTime = propertyMethodTime;
+		this.shrinkingTime = shrinkingTime;
+		this.countMeasuredTries = countMeasuredTries;
+		this.countShrinkingSteps = countShrinkingSteps;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	@Override
+	public Duration setupTime() {
+		return setupTime;
+	}
+
+	@Override
+	public Duration generationTime() {
+		return generationTime;
+	}
+
+	@Override
+	public Duration aroundTryTime() {
+		return aroundTryTime;
+	}
+
+	@Override
+	public Duration propertyMethodTime() {
+		return propertyMethodTime;
+	}
+
+	@Override
+	public Duration shrinkingTime() {
+		return shrinkingTime;
+	}
+
+	@Override
+	public int countMeasuredTries() {
+		return countMeasuredTries;
+	}
+
+	@Override
+	public int countShrinkingSteps() {
+		return countShrinkingSteps;
+	}
+
+	@Override
+	public OptionalLong allocatedBytes() {
+		return allocatedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"PropertyExecutionMetrics[setup=%s, generation=%s, around-try=%s, property-method=%s, shrinking=%s, tries=%d, shrinking-steps=%d, allocated-bytes=%s]",
+			setupTime, generationTime, aroundTryTime, propertyMethodTime, shrinkingTime,
+			countMeasuredTries, countShrinkingSteps,
+			allocatedBytes.isPresent() ? allocatedBytes.getAsLong() : "n/a"
+		);
+	}
+}
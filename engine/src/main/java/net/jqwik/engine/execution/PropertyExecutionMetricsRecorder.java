@@ -0,0 +1,123 @@
+package net.jqwik.engine.execution;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Collects the {@linkplain PropertyExecutionMetrics metrics} of a single property's execution.
+ * Tries can be measured concurrently from several threads.
+ */
+public class PropertyExecutionMetricsRecorder {
+
+	private final LongAdder setupNanos = new LongAdder();
+	private final LongAdder generationNanos = new LongAdder();
+	private final LongAdder tryNanos = new LongAdder();
+	private final LongAdder propertyMethodNanos = new LongAdder();
+	private final LongAdder shrinkingNanos = new LongAdder();
+	private final LongAdder allocatedBytes = new LongAdder();
+	private final AtomicInteger countMeasuredTries = new AtomicInteger(0);
+	private final AtomicInteger countShrinkingSteps = new AtomicInteger(0);
+
+	// Tries during shrinking are only measured as part of the shrinking time.
+	// Each thread marks the shrinking tries it executes itself, because a shrinking thread
+	// can still be running after bounded shrinking has timed out.
+	private final ThreadLocal<Boolean> executingShrinkingTry = ThreadLocal.withInitial(() -> false);
+
+	public <T> T measureSetup(Supplier<T> setup) {
+		long start = System.nanoTime();
+		try {
+			return setup.get();
+		} finally {
+			setupNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	public <T> T measureGeneration(Supplier<T> generation) {
+		long start = System.nanoTime();
+		try {
+			return generation.get();
+		} finally {
+			generationNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	public <T> T measurePropertyMethod(Supplier<T> propertyMethod) {
+		if (executingShrinkingTry.get()) {
+			return propertyMethod.get();
+		}
+		long start = System.nanoTime();
+		try {
+			return propertyMethod.get();
+		} finally {
+			propertyMethodNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	public ShrunkFalsifiedSample measureShrinking(Supplier<ShrunkFalsifiedSample> shrinkingRun) {
+		long start = System.nanoTime();
+		try {
+			ShrunkFalsifiedSample shrunkSample = shrinkingRun.get();
+			countShrinkingSteps.addAndGet(shrunkSample.countShrinkingSteps());
+			return shrunkSample;
+		} finally {
+			shrinkingNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Tries of the returned executor are not measured - in whatever thread they are executed.
+	 */
+	public TryLifecycleExecutor shrinkingTries(TryLifecycleExecutor tryLifecycleExecutor) {
+		return (tryLifecycleContext, parameters) -> {
+			boolean previous = executingShrinkingTry.get();
+			executingShrinkingTry.set(true);
+			try {
+				return tryLifecycleExecutor.execute(tryLifecycleContext, parameters);
+			} finally {
+				executingShrinkingTry.set(previous);
+			}
+		};
+	}
+
+	/**
+	 * Measure all tries of a try executor including its lifecycle hooks.
+	 */
+	public TryLifecycleExecutor measureTries(TryLifecycleExecutor tryLifecycleExecutor) {
+		return (tryLifecycleContext, parameters) -> {
+			if (executingShrinkingTry.get()) {
+				return tryLifecycleExecutor.execute(tryLifecycleContext, parameters);
+			}
+			long allocatedBefore = ThreadAllocations.allocatedBytesOfCurrentThread();
+			long start = System.nanoTime();
+			try {
+				return tryLifecycleExecutor.execute(tryLifecycleContext, parameters);
+			} finally {
+				tryNanos.add(System.nanoTime() - start);
+				long allocatedAfter = ThreadAllocations.allocatedBytesOfCurrentThread();
+				if (allocatedBefore != ThreadAllocations.NOT_SUPPORTED && allocatedAfter != ThreadAllocations.NOT_SUPPORTED) {
+					allocatedBytes.add(allocatedAfter - allocatedBefore);
+				}
+				countMeasuredTries.incrementAndGet();
+			}
+		};
+	}
+
+	public PropertyExecutionMetrics metrics() {
+		long propertyMethod = propertyMethodNanos.sum();
+		return new PropertyExecutionMetricsImpl(
+			Duration.ofNanos(setupNanos.sum()),
+			Duration.ofNanos(generationNanos.sum()),
+			Duration.ofNanos(Math.max(0, tryNanos.sum() - propertyMethod)),
+			Duration.ofNanos(propertyMethod),
+			Duration.ofNanos(shrinkingNanos.sum()),
+			countMeasuredTries.get(),
+			countShrinkingSteps.get(),
+			ThreadAllocations.isSupported() ? OptionalLong.of(allocatedBytes.sum()) : OptionalLong.empty()
+		);
+	}
+}
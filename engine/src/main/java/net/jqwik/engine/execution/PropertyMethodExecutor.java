@@ -56,6 +56,7 @@ public class PropertyMethodExecutor {
 			);
 		}
 		StoreRepository.getCurrent().finishProperty(methodDescriptor);
+		reportMetrics(propertyLifecycleContext.reporter(), propertyExecutionResult);
 		reportResult(propertyLifecycleContext.reporter(), propertyExecutionResult);
 		return propertyExecutionResult;
 	}
@@ -90,6 +91,15 @@ public class PropertyMethodExecutor {
 		return property.check(methodDescriptor.getReporting());
 	}
 
+	private void reportMetrics(Reporter reporter, PropertyExecutionResult executionResult) {
+		if (!Reporting.METRICS.containedIn(methodDescriptor.getReporting())) {
+			return;
+		}
+		executionResult.metrics().ifPresent(
+			metrics -> reporter.publishReports("metrics", MetricsReport.from(metrics))
+		);
+	}
+
 	private void reportResult(Reporter reporter, PropertyExecutionResult executionResult) {
 		if (executionResult.status() == PropertyExecutionResult.Status.SUCCESSFUL && reportOnlyFailures) {
 			return;
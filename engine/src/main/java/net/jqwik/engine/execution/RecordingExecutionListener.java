@@ -7,6 +7,10 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.recording.*;
 
+/**
+ * All notifications are synchronized because tasks may be executed in parallel
+ * but neither the recorder nor the engine listener can be expected to be thread safe.
+ */
 public class RecordingExecutionListener implements PropertyExecutionListener {
 
 	private final TestRunRecorder recorder;
@@ -20,17 +24,17 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 	}
 
 	@Override
-	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
 		listener.executionSkipped(testDescriptor, reason);
 	}
 
 	@Override
-	public void executionStarted(TestDescriptor testDescriptor) {
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
 		listener.executionStarted(testDescriptor);
 	}
 
 	@Override
-	public void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+	public synchronized void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
 		recordTestRun(testDescriptor, executionResult);
 		listener.executionFinished(testDescriptor, toTestExecutionResult(executionResult));
 	}
@@ -61,7 +65,7 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 	}
 
 	@Override
-	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
 		if (useJunitPlatformReporter) {
 			listener.reportingEntryPublished(testDescriptor, entry);
 		} else {
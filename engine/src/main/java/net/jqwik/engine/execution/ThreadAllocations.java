@@ -0,0 +1,55 @@
+package net.jqwik.engine.execution;
+
+import java.lang.management.*;
+import java.lang.reflect.*;
+
+/**
+ * Measures the bytes allocated by the current thread if the JVM supports it.
+ * {@code com.sun.management.ThreadMXBean} is only accessed through reflection
+ * so that jqwik does not depend on a HotSpot specific API.
+ */
+class ThreadAllocations {
+
+	static final long NOT_SUPPORTED = -1;
+
+	private static final Object THREAD_BEAN;
+	private static final Method GET_THREAD_ALLOCATED_BYTES;
+
+	static {
+		Object threadBean = null;
+		Method getThreadAllocatedBytes = null;
+		try {
+			threadBean = ManagementFactory.getThreadMXBean();
+			Class<?> allocationsBeanClass = Class.forName("com.sun.management.ThreadMXBean");
+			if (allocationsBeanClass.isInstance(threadBean)
+					&& (boolean) allocationsBeanClass.getMethod("isThreadAllocatedMemoryEnabled").invoke(threadBean)) {
+				getThreadAllocatedBytes = allocationsBeanClass.getMethod("getThreadAllocatedBytes", long.class);
+			}
+		} catch (Throwable notSupported) {
+			getThreadAllocatedBytes = null;
+		}
+		THREAD_BEAN = threadBean;
+		GET_THREAD_ALLOCATED_BYTES = getThreadAllocatedBytes;
+	}
+
+	private ThreadAllocations() {
+	}
+
+	static boolean isSupported() {
+		return GET_THREAD_ALLOCATED_BYTES != null;
+	}
+
+	/**
+	 * @return the number of bytes allocated by the current thread so far or {@linkplain #NOT_SUPPORTED}
+	 */
+	static long allocatedBytesOfCurrentThread() {
+		if (GET_THREAD_ALLOCATED_BYTES == null) {
+			return NOT_SUPPORTED;
+		}
+		try {
+			return (long) GET_THREAD_ALLOCATED_BYTES.invoke(THREAD_BEAN, Thread.currentThread().getId());
+		} catch (Throwable notSupported) {
+			return NOT_SUPPORTED;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.function.*;
+
+/**
+ * Identifies the try that the current thread generates or executes.
+ * Tries of a property that run concurrently get their own values of stores with lifespan {@code TRY}.
+ * Tries executed one after the other need no identifier.
+ */
+public class CurrentTry {
+
+	private static final ThreadLocal<Object> currentTry = new ThreadLocal<>();
+
+	public static <T> T runWithTry(Object tryIdentifier, Supplier<T> executable) {
+		Object previous = currentTry.get();
+		currentTry.set(tryIdentifier);
+		try {
+			return executable.get();
+		} finally {
+			if (previous == null) {
+				currentTry.remove();
+			} else {
+				currentTry.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * @return the identifier of the current try or null if tries are executed one after the other
+	 */
+	public static Object get() {
+		return currentTry.get();
+	}
+}
@@ -1,15 +1,36 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.util.*;
 import java.util.function.*;
 import java.util.logging.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.support.*;
 
 import static net.jqwik.engine.support.JqwikStringSupport.*;
 
+/**
+ * A store with lifespan {@linkplain Lifespan#TRY} keeps a separate value for each {@linkplain CurrentTry try}
+ * that runs concurrently with other tries of the same property.
+ *
+ * <p>
+ * When properties run concurrently a store with lifespan {@linkplain Lifespan#PROPERTY} or {@linkplain Lifespan#TRY}
+ * also keeps a separate value for each property that uses it.
+ * That's why properties that run concurrently do not see or reset each other's values.
+ * Access from outside the store's scope, e.g. from a container's hooks, then uses the value of the scope itself,
+ * which is not visible within the properties.
+ * When properties run one after the other all of them share the value of the store's scope.
+ * </p>
+ *
+ * <p>
+ * The initial value supplier and updaters are called while holding this store's lock,
+ * so that concurrent updates of the same value are not lost.
+ * They must not access other stores that might be locked by another thread in the meantime.
+ * </p>
+ */
 public class ScopedStore<T> implements Store<T> {
 
 	private static final Logger LOG = Logger.getLogger(ScopedStore.class.getName());
@@ -18,29 +39,32 @@ public class ScopedStore<T> implements Store<T> {
 	private final Lifespan lifespan;
 	private final TestDescriptor scope;
 	private final Supplier<T> initialValueSupplier;
+	private final BooleanSupplier separateValuesPerProperty;
 
-	private T value;
-	private boolean initialized = false;
+	// Only accessed while holding this store's lock. Values can be null.
+	private final Map<Object, T> values = new HashMap<>();
 
 	public ScopedStore(
 		Object identifier,
 		Lifespan lifespan,
 		TestDescriptor scope,
-		Supplier<T> initialValueSupplier
+		Supplier<T> initialValueSupplier,
+		BooleanSupplier separateValuesPerProperty
 	) {
 		this.identifier = identifier;
 		this.lifespan = lifespan;
 		this.scope = scope;
 		this.initialValueSupplier = initialValueSupplier;
+		this.separateValuesPerProperty = separateValuesPerProperty;
 	}
 
 	@Override
 	public synchronized T get() {
-		if (!initialized) {
-			value = initialValueSupplier.get();
-			initialized = true;
+		Object key = currentKey();
+		if (!values.containsKey(key)) {
+			values.put(key, initialValueSupplier.get());
 		}
-		return value;
+		return values.get(key);
 	}
 
 	@Override
@@ -50,16 +74,48 @@ public class ScopedStore<T> implements Store<T> {
 
 	@Override
 	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+		T newValue = updater.apply(get());
+		values.put(currentKey(), newValue);
 	}
 
 	@Override
 	public synchronized void reset() {
-		close();
-		initialized = false;
+		resetValue(currentKey());
+	}
 
-		// Free memory as soon as possible, the store object might go live on for a while:
-		value = null;
+	/**
+	 * Reset the value used by {@code executingDescriptor} in the current try.
+	 */
+	synchronized void resetFor(TestDescriptor executingDescriptor) {
+		resetValue(keyFor(executingDescriptor));
+	}
+
+	private void resetValue(Object key) {
+		if (!values.containsKey(key)) {
+			return;
+		}
+		// Removing the value also frees memory as soon as possible, the store object might go live on for a while
+		closeOnReset(values.remove(key));
+	}
+
+	private Object currentKey() {
+		TestDescriptor current = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		if (current == null || !isInScope(current)) {
+			return keyFor(scope);
+		}
+		return keyFor(current);
+	}
+
+	private Object keyFor(TestDescriptor executingDescriptor) {
+		TestDescriptor owner = separateValuesPerProperty.getAsBoolean() ? executingDescriptor : scope;
+		switch (lifespan) {
+			case PROPERTY:
+				return owner;
+			case TRY:
+				return Tuple.of(owner, CurrentTry.get());
+			default:
+				return scope;
+		}
 	}
 
 	public Object getIdentifier() {
@@ -82,24 +138,23 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public String toString() {
+	public synchronized String toString() {
 		return String.format(
 			"Store(%s, %s, %s): [%s]",
 			displayString(identifier),
 			lifespan.name(),
 			scope.getUniqueId(),
-			displayString(value)
+			displayString(values.get(currentKey()))
 		);
 	}
 
-	public void close() {
-		if (!initialized) {
-			return;
+	public synchronized void close() {
+		for (T value : values.values()) {
+			closeOnReset(value);
 		}
-		closeOnReset();
 	}
 
-	private void closeOnReset() {
+	private void closeOnReset(T value) {
 		if (value instanceof Store.CloseOnReset) {
 			try {
 				((Store.CloseOnReset) value).close();
@@ -112,4 +167,3 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 }
-
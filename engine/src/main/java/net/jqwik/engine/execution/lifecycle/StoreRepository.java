@@ -1,8 +1,8 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
@@ -10,7 +10,17 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * The repository can be accessed concurrently so that properties can be executed in parallel.
+ * Stores are indexed by identifier and by scope. Retrieval and resetting of stores
+ * only walk up a descriptor's ancestors and do not lock.
+ * Creating and removing stores is synchronized.
+ *
+ * <p>
+ * When {@linkplain #setPropertiesRunConcurrently(boolean) properties run concurrently}
+ * stores with lifespan {@linkplain Lifespan#PROPERTY} or {@linkplain Lifespan#TRY}
+ * that are created in a container keep separate values for each property - and try - running in that container.
+ * Finishing a property or try therefore only resets the values of that property or try.
+ * </p>
  */
 public class StoreRepository {
 
@@ -25,9 +35,29 @@ public class StoreRepository {
 		return current;
 	}
 
-	private static class IdentifiedStores extends LinkedHashMap<TestDescriptor, ScopedStore<?>> {}
+	private static class IdentifiedStores {
+		private final Map<TestDescriptor, ScopedStore<?>> byScope = new ConcurrentHashMap<>();
 
-	private final Map<Object, IdentifiedStores> storesByIdentifier = new LinkedHashMap<>();
+		// Only accessed while holding the repository's lock
+		private final Map<TestDescriptor, Integer> storesInOrBelow = new HashMap<>();
+
+		private boolean isEmpty() {
+			return byScope.isEmpty();
+		}
+	}
+
+	private volatile boolean propertiesRunConcurrently = false;
+
+	private final Map<Object, IdentifiedStores> storesByIdentifier = new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, Set<ScopedStore<?>>> storesByScope = new ConcurrentHashMap<>();
+
+	public boolean propertiesRunConcurrently() {
+		return propertiesRunConcurrently;
+	}
+
+	public void setPropertiesRunConcurrently(boolean propertiesRunConcurrently) {
+		this.propertiesRunConcurrently = propertiesRunConcurrently;
+	}
 
 	public <T> ScopedStore<T> create(
 		TestDescriptor scope,
@@ -35,6 +65,41 @@ public class StoreRepository {
 		Lifespan lifespan,
 		Supplier<T> initialValueSupplier
 	) {
+		checkCreationArguments(scope, identifier, lifespan, initialValueSupplier);
+		synchronized (this) {
+			ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initialValueSupplier, this::propertiesRunConcurrently);
+			addStore(identifier, store);
+			return store;
+		}
+	}
+
+	/**
+	 * Retrieve the store visible for {@code scope} or create it in {@code scope} if there is none.
+	 * Concurrent callers will get the same store.
+	 */
+	public <T> ScopedStore<T> getOrCreate(
+		TestDescriptor scope,
+		Object identifier,
+		Lifespan lifespan,
+		Supplier<T> initialValueSupplier
+	) {
+		checkCreationArguments(scope, identifier, lifespan, initialValueSupplier);
+		Optional<ScopedStore<T>> existingStore = get(scope, identifier);
+		if (existingStore.isPresent()) {
+			return existingStore.get();
+		}
+		synchronized (this) {
+			Optional<ScopedStore<T>> storeCreatedInBetween = get(scope, identifier);
+			if (storeCreatedInBetween.isPresent()) {
+				return storeCreatedInBetween.get();
+			}
+			ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initialValueSupplier, this::propertiesRunConcurrently);
+			addStore(identifier, store);
+			return store;
+		}
+	}
+
+	private void checkCreationArguments(TestDescriptor scope, Object identifier, Lifespan lifespan, Supplier<?> initialValueSupplier) {
 		if (scope == null) {
 			throw new IllegalArgumentException("scope must not be null");
 		}
@@ -47,22 +112,12 @@ public class StoreRepository {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
-		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initialValueSupplier);
-		addStore(identifier, store);
-		return store;
 	}
 
 	private <T> void addStore(Object identifier, ScopedStore<T> newStore) {
-		IdentifiedStores identifiedStores = storesByIdentifier.computeIfAbsent(newStore.getIdentifier(), ignore -> new IdentifiedStores());
-
-		Optional<ScopedStore<?>> conflictingStore =
-			identifiedStores
-				.values()
-				.stream()
-				.filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
-				.findFirst();
+		IdentifiedStores identifiedStores = storesByIdentifier.computeIfAbsent(identifier, ignore -> new IdentifiedStores());
 
-		conflictingStore.ifPresent(existingStore -> {
+		findConflictingStore(identifiedStores, newStore.getScope()).ifPresent(conflictingStore -> {
 			String message = String.format(
 				"You cannot create %s with identifier [%s]. It conflicts with existing %s",
 				newStore,
@@ -72,12 +127,23 @@ public class StoreRepository {
 			throw new JqwikException(message);
 		});
 
-		identifiedStores.put(newStore.getScope(), newStore);
-		storesByIdentifier.put(identifier, identifiedStores);
+		identifiedStores.byScope.put(newStore.getScope(), newStore);
+		forSelfAndAncestors(newStore.getScope(), descriptor -> identifiedStores.storesInOrBelow.merge(descriptor, 1, Integer::sum));
+		storesByScope.computeIfAbsent(newStore.getScope(), ignore -> ConcurrentHashMap.newKeySet()).add(newStore);
 	}
 
-	private <T> boolean isVisibleInAncestorOrDescendant(ScopedStore<T> newStore, ScopedStore<?> store) {
-		return store.isVisibleFor(newStore.getScope()) || newStore.isVisibleFor(store.getScope());
+	private Optional<ScopedStore<?>> findConflictingStore(IdentifiedStores identifiedStores, TestDescriptor scope) {
+		Optional<ScopedStore<?>> storeInSelfOrAncestor = firstVisibleStore(scope, identifiedStores);
+		if (storeInSelfOrAncestor.isPresent()) {
+			return storeInSelfOrAncestor;
+		}
+		if (!identifiedStores.storesInOrBelow.containsKey(scope)) {
+			return Optional.empty();
+		}
+		return identifiedStores.byScope.values()
+									   .stream()
+									   .filter(store -> isSameOrDescendant(store.getScope(), scope))
+									   .findFirst();
 	}
 
 	public <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
@@ -89,74 +155,93 @@ public class StoreRepository {
 		if (identifiedStores == null) {
 			return Optional.empty();
 		} else {
-			return getFirstVisibleStore(retriever, identifiedStores);
+			return firstVisibleStore(retriever, identifiedStores);
 		}
 	}
 
 	@SuppressWarnings("unchecked")
-	private <T> Optional<ScopedStore<T>> getFirstVisibleStore(TestDescriptor retriever, IdentifiedStores identifiedStores) {
-		return identifiedStores.values()
-							   .stream()
-							   .filter(store -> store.isVisibleFor(retriever))
-							   .map(store -> (ScopedStore<T>) store)
-							   .findFirst();
+	private <T> Optional<ScopedStore<T>> firstVisibleStore(TestDescriptor retriever, IdentifiedStores identifiedStores) {
+		TestDescriptor descriptor = retriever;
+		while (descriptor != null) {
+			ScopedStore<?> store = identifiedStores.byScope.get(descriptor);
+			if (store != null) {
+				return Optional.of((ScopedStore<T>) store);
+			}
+			descriptor = descriptor.getParent().orElse(null);
+		}
+		return Optional.empty();
 	}
 
-	public void finishScope(TestDescriptor scope) {
-		List<ScopedStore<?>> storesToRemove =
-			streamAllStores()
-				.filter(store -> isStoreIn(store, scope))
-				.collect(Collectors.toList());
-
-		// forEach does not work because map underlying the stream is changed
-		for (ScopedStore<?> store : storesToRemove) {
-			store.close();
-			removeStore(store);
+	public synchronized void finishScope(TestDescriptor scope) {
+		List<TestDescriptor> scopesToRemove = new ArrayList<>();
+		for (TestDescriptor storeScope : storesByScope.keySet()) {
+			if (isSameOrDescendant(storeScope, scope)) {
+				scopesToRemove.add(storeScope);
+			}
+		}
+		for (TestDescriptor scopeToRemove : scopesToRemove) {
+			Set<ScopedStore<?>> stores = storesByScope.remove(scopeToRemove);
+			for (ScopedStore<?> store : stores) {
+				store.close();
+				removeStore(store);
+			}
 		}
 	}
 
 	private void removeStore(ScopedStore<?> store) {
 		IdentifiedStores identifiedStores = storesByIdentifier.get(store.getIdentifier());
-		identifiedStores.remove(store.getScope());
+		identifiedStores.byScope.remove(store.getScope());
+		forSelfAndAncestors(
+			store.getScope(),
+			descriptor -> identifiedStores.storesInOrBelow.computeIfPresent(descriptor, (d, count) -> count > 1 ? count - 1 : null)
+		);
 		if (identifiedStores.isEmpty()) {
 			storesByIdentifier.remove(store.getIdentifier());
 		}
 	}
 
-	private Stream<ScopedStore<?>> streamAllStores() {
-		Collection<IdentifiedStores> values = new ArrayList<>(storesByIdentifier.values());
-		return values
-			.stream()
-			.flatMap(identifiedStores -> new ArrayList<>(identifiedStores.values()).stream());
-
-		// TODO: Above implementation tries to get rid of ConcurrentModificationException
-		//       reported in https://github.com/jlink/jqwik/issues/210.
-		//       Evaluate if it really does.
-		// return storesByIdentifier
-		// 		   .values()
-		// 		   .stream()
-		// 		   .flatMap(identifiedStores -> identifiedStores.values().stream());
+	private static boolean isSameOrDescendant(TestDescriptor candidate, TestDescriptor scope) {
+		TestDescriptor descriptor = candidate;
+		while (descriptor != null) {
+			if (descriptor.equals(scope)) {
+				return true;
+			}
+			descriptor = descriptor.getParent().orElse(null);
+		}
+		return false;
 	}
 
-	private boolean isStoreIn(ScopedStore<?> store, TestDescriptor scope) {
-		return store.getScope().equals(scope) || scope.getDescendants().contains(store.getScope());
+	private static void forSelfAndAncestors(TestDescriptor scope, Consumer<TestDescriptor> action) {
+		TestDescriptor descriptor = scope;
+		while (descriptor != null) {
+			action.accept(descriptor);
+			descriptor = descriptor.getParent().orElse(null);
+		}
 	}
 
 	public void finishProperty(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		resetVisibleStores(scope, Lifespan.PROPERTY);
 	}
 
 	public void finishTry(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		resetVisibleStores(scope, Lifespan.TRY);
+	}
+
+	private void resetVisibleStores(TestDescriptor scope, Lifespan lifespan) {
+		forSelfAndAncestors(scope, descriptor -> {
+			Set<ScopedStore<?>> stores = storesByScope.get(descriptor);
+			if (stores == null) {
+				return;
+			}
+			for (ScopedStore<?> store : stores) {
+				if (store.lifespan() == lifespan) {
+					store.resetFor(scope);
+				}
+			}
+		});
 	}
 
 	public int size() {
-		return storesByIdentifier.values().stream().mapToInt(HashMap::size).sum();
+		return storesByScope.values().stream().mapToInt(Set::size).sum();
 	}
 }
@@ -1,11 +1,14 @@
 package net.jqwik.engine.execution.pipeline;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.api.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
 
 public class ExecutionPipeline implements Pipeline {
 
@@ -13,9 +16,15 @@ public class ExecutionPipeline implements Pipeline {
 	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
 	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
 	private final PropertyExecutionListener executionListener;
+	private final int parallelism;
 
 	public ExecutionPipeline(PropertyExecutionListener executionListener) {
+		this(executionListener, 1);
+	}
+
+	public ExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
 		this.executionListener = executionListener;
+		this.parallelism = Math.max(1, parallelism);
 	}
 
 	@Override
@@ -74,6 +83,14 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	public void runToTermination() {
+		if (parallelism > 1) {
+			runInParallel();
+		} else {
+			runSequentially();
+		}
+	}
+
+	private void runSequentially() {
 		TaskExecutionResult predecessorResult = TaskExecutionResult.success();
 		while (!tasks.isEmpty()) {
 			ExecutionTask head = tasks.get(0);
@@ -95,4 +112,99 @@ public class ExecutionPipeline implements Pipeline {
 		return !unfinishedPredecessors.isEmpty();
 	}
 
+	/**
+	 * Run tasks on a work-stealing pool. A task is only started when all of its predecessors have finished.
+	 * Among the tasks ready to run the one closest to the top of the queue is started first,
+	 * so that tasks moved up front with {@linkplain #executeFirst(List)} keep their priority.
+	 */
+	private void runInParallel() {
+		List<ExecutionTask> queue = tasksWithPredecessorsFirst();
+		Map<ExecutionTask, TaskExecutionResult> results = new IdentityHashMap<>();
+		ExecutorService executor = Executors.newWorkStealingPool(parallelism);
+		CompletionService<FinishedTask> completionService = new ExecutorCompletionService<>(executor);
+		int running = 0;
+		try {
+			while (!queue.isEmpty() || running > 0) {
+				Optional<ExecutionTask> executable = running < parallelism ? nextExecutableTask(queue) : Optional.empty();
+				if (executable.isPresent()) {
+					ExecutionTask task = executable.get();
+					TaskExecutionResult predecessorResult = combinedPredecessorResult(task, results);
+					queue.remove(task);
+					completionService.submit(() -> new FinishedTask(task, task.execute(executionListener, predecessorResult)));
+					running++;
+					continue;
+				}
+				if (running == 0) {
+					String message = String.format("Cannot execute remaining tasks %s. Predecessors seem to be cyclic.", queue);
+					throw new JqwikException(message);
+				}
+				FinishedTask finishedTask = takeNextFinishedTask(completionService);
+				running--;
+				results.put(finishedTask.task, finishedTask.result);
+				taskFinished.put(finishedTask.task, true);
+				tasks.remove(finishedTask.task);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<ExecutionTask> tasksWithPredecessorsFirst() {
+		List<ExecutionTask> ordered = new ArrayList<>();
+		Set<ExecutionTask> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (ExecutionTask task : tasks) {
+			addWithPredecessorsFirst(task, ordered, visited);
+		}
+		return ordered;
+	}
+
+	private void addWithPredecessorsFirst(ExecutionTask task, List<ExecutionTask> ordered, Set<ExecutionTask> visited) {
+		if (!visited.add(task)) {
+			return;
+		}
+		ExecutionTask[] predecessors = taskPredecessors.get(task);
+		ensurePredecessorsSubmitted(task, predecessors);
+		for (ExecutionTask predecessor : predecessors) {
+			if (!taskFinished.get(predecessor)) {
+				addWithPredecessorsFirst(predecessor, ordered, visited);
+			}
+		}
+		ordered.add(task);
+	}
+
+	private Optional<ExecutionTask> nextExecutableTask(List<ExecutionTask> queue) {
+		return queue.stream()
+					.filter(task -> Arrays.stream(taskPredecessors.get(task)).allMatch(taskFinished::get))
+					.findFirst();
+	}
+
+	private TaskExecutionResult combinedPredecessorResult(ExecutionTask task, Map<ExecutionTask, TaskExecutionResult> results) {
+		return Arrays.stream(taskPredecessors.get(task))
+					 .map(results::get)
+					 .filter(result -> result != null && !result.successful())
+					 .findFirst()
+					 .orElse(TaskExecutionResult.success());
+	}
+
+	private FinishedTask takeNextFinishedTask(CompletionService<FinishedTask> completionService) {
+		try {
+			return completionService.take().get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	private static class FinishedTask {
+		private final ExecutionTask task;
+		private final TaskExecutionResult result;
+
+		private FinishedTask(ExecutionTask task, TaskExecutionResult result) {
+			this.task = task;
+			this.result = result;
+		}
+	}
+
 }
@@ -270,8 +270,10 @@ public class ExecutionResultReport {
 				return "edge cases are mixed in";
 			case NONE:
 				return "edge cases are not explicitly generated";
+			case PAIRWISE:
+				return "pairs of edge cases are generated first";
 			default:
-				return "FIRST, MIXIN or NONE";
+				return "FIRST, MIXIN, NONE or PAIRWISE";
 		}
 	}
 
@@ -0,0 +1,38 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.time.*;
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+
+public class MetricsReport {
+
+	private static final String SETUP_KEY = "setup";
+	private static final String GENERATION_KEY = "generation";
+	private static final String AROUND_TRY_KEY = "around-try";
+	private static final String PROPERTY_METHOD_KEY = "property-method";
+	private static final String SHRINKING_KEY = "shrinking";
+	private static final String TRIES_KEY = "tries";
+	private static final String SHRINKING_STEPS_KEY = "shrinking-steps";
+	private static final String ALLOCATED_BYTES_PER_TRY_KEY = "allocated-bytes#per-try";
+
+	private MetricsReport() {
+	}
+
+	public static Map<String, Object> from(PropertyExecutionMetrics metrics) {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put(SETUP_KEY, formatDuration(metrics.setupTime()));
+		report.put(GENERATION_KEY, formatDuration(metrics.generationTime()));
+		report.put(AROUND_TRY_KEY, formatDuration(metrics.aroundTryTime()));
+		report.put(PROPERTY_METHOD_KEY, formatDuration(metrics.propertyMethodTime()));
+		report.put(SHRINKING_KEY, formatDuration(metrics.shrinkingTime()));
+		report.put(TRIES_KEY, metrics.countMeasuredTries());
+		report.put(SHRINKING_STEPS_KEY, metrics.countShrinkingSteps());
+		metrics.allocatedBytesPerTry().ifPresent(bytes -> report.put(ALLOCATED_BYTES_PER_TRY_KEY, bytes));
+		return report;
+	}
+
+	private static String formatDuration(Duration duration) {
+		return String.format(Locale.ROOT, "%.3f ms", duration.toNanos() / 1_000_000.0);
+	}
+}
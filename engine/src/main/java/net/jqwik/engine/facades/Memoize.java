@@ -1,51 +1,114 @@
 package net.jqwik.engine.facades;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.support.*;
 
-class Memoize {
+/**
+ * Memoizes generators of {@linkplain ShareableGenerators shareable} arbitraries across all properties and containers of a test run.
+ * These arbitraries implement structural equality - e.g. the default string, character and integral arbitraries -
+ * and share their generators even when each property creates its own arbitrary instances.
+ * Generators of all other arbitraries might keep state and are only memoized within the current property.
+ */
+public class Memoize {
 
-	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
-		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, () -> new LruCache<>(500));
+	static final int MAX_SIZE = 500;
+
+	// Cleared when a test run has finished, so that no arbitraries are kept alive across runs
+	private static final Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>> sharedGenerators = new LruCache<>(MAX_SIZE);
+
+	private static final AtomicLong hits = new AtomicLong(0);
+	private static final AtomicLong misses = new AtomicLong(0);
+
+	private Memoize() {
+	}
+
+	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> propertyGeneratorStore() {
+		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, () -> new LruCache<>(MAX_SIZE));
 	}
 
-	@SuppressWarnings("unchecked")
 	static <U> RandomGenerator<U> memoizedGenerator(
 			Arbitrary<U> arbitrary,
 			int genSize,
 			boolean withEdgeCases,
 			Supplier<RandomGenerator<U>> generatorSupplier
 	) {
-		Tuple3<Arbitrary<?>, Integer, Boolean> key = Tuple.of(arbitrary, genSize, withEdgeCases);
+		Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>> generators =
+			isShareable(arbitrary) ? sharedGenerators : propertyGeneratorStore().get();
+		return memoizedGenerator(generators, Tuple.of(arbitrary, genSize, withEdgeCases), generatorSupplier);
+	}
 
-		RandomGenerator<?> generator = computeIfAbsent(
-				generatorStore().get(),
-				key,
-				ignore -> generatorSupplier.get()
-		);
-		return (RandomGenerator<U>) generator;
+	private static boolean isShareable(Arbitrary<?> arbitrary) {
+		return arbitrary instanceof ShareableGenerators && ((ShareableGenerators) arbitrary).generatorsAreShareable();
 	}
 
-	// Had to roll my on computeIfAbsent because HashMap.computeIfAbsent()
-	// does not allow modifications of the map within the mapping function
-	private static <K, V> V computeIfAbsent(
-			Map<K, V> cache,
-			K key,
-			Function<? super K, ? extends V> mappingFunction
+	@SuppressWarnings("unchecked")
+	private static <U> RandomGenerator<U> memoizedGenerator(
+			Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>> generators,
+			Tuple3<Arbitrary<?>, Integer, Boolean> key,
+			Supplier<RandomGenerator<U>> generatorSupplier
 	) {
-		V result = cache.get(key);
+		RandomGenerator<?> generator;
+		synchronized (generators) {
+			generator = generators.get(key);
+		}
+		if (generator != null) {
+			hits.incrementAndGet();
+			return (RandomGenerator<U>) generator;
+		}
+		misses.incrementAndGet();
+
+		// Creating a generator often memoizes other generators and can take a while,
+		// that's why it is not done while holding the lock
+		RandomGenerator<U> newGenerator = generatorSupplier.get();
+		synchronized (generators) {
+			RandomGenerator<?> existingGenerator = generators.putIfAbsent(key, newGenerator);
+			return existingGenerator == null ? newGenerator : (RandomGenerator<U>) existingGenerator;
+		}
+	}
 
-		if (result == null) {
-			result = mappingFunction.apply(key);
-			cache.put(key, result);
+	/**
+	 * Forget all shared generators and reset statistics. Called when a test run has finished.
+	 */
+	public static void clear() {
+		synchronized (sharedGenerators) {
+			sharedGenerators.clear();
 		}
+		hits.set(0);
+		misses.set(0);
+	}
+
+	public static long hits() {
+		return hits.get();
+	}
+
+	public static long misses() {
+		return misses.get();
+	}
 
-		return result;
+	public static double hitRate() {
+		long lookups = hits() + misses();
+		return lookups == 0 ? 0.0 : (double) hits() / lookups;
+	}
+
+	public static int size() {
+		synchronized (sharedGenerators) {
+			return sharedGenerators.size();
+		}
+	}
+
+	public static String statistics() {
+		return String.format(
+			Locale.ROOT,
+			"Generator cache: size=%d, hits=%d, misses=%d, hit rate=%.1f%%",
+			size(), hits(), misses(), hitRate() * 100
+		);
 	}
 
 }
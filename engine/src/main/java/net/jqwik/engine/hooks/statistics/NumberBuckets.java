@@ -0,0 +1,91 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Assigns numbers to a fixed set of equally sized ranges while they are being collected
+ * so that only a single count per range must be kept.
+ */
+class NumberBuckets {
+
+	private final double min;
+	private final double max;
+	private final double width;
+
+	// Index 0 is for values below min, last index for values above max
+	private final List<Object>[] keys;
+
+	@SuppressWarnings("unchecked")
+	NumberBuckets(double min, double max, int numberOfBuckets) {
+		if (!(min < max)) {
+			String message = String.format("min [%s] must be smaller than max [%s]", min, max);
+			throw new IllegalArgumentException(message);
+		}
+		if (numberOfBuckets <= 0) {
+			String message = String.format("numberOfBuckets must be greater than 0 but is %s", numberOfBuckets);
+			throw new IllegalArgumentException(message);
+		}
+		this.min = min;
+		this.max = max;
+		this.width = (max - min) / numberOfBuckets;
+		this.keys = new List[numberOfBuckets + 2];
+		keys[0] = Collections.singletonList(new Bucket(0, "< " + display(min)));
+		for (int i = 1; i <= numberOfBuckets; i++) {
+			double lower = min + (i - 1) * width;
+			boolean isLast = i == numberOfBuckets;
+			double upper = isLast ? max : min + i * width;
+			String label = String.format("[%s..%s", display(lower), display(upper)) + (isLast ? ']' : '[');
+			keys[i] = Collections.singletonList(new Bucket(i, label));
+		}
+		keys[numberOfBuckets + 1] = Collections.singletonList(new Bucket(numberOfBuckets + 1, "> " + display(max)));
+	}
+
+	boolean hasSameRanges(double min, double max, int numberOfBuckets) {
+		return this.min == min && this.max == max && keys.length == numberOfBuckets + 2;
+	}
+
+	List<Object> keyFor(Object value) {
+		if (!(value instanceof Number)) {
+			String message = String.format("Only numbers can be collected into buckets but [%s] is not a number", value);
+			throw new IllegalArgumentException(message);
+		}
+		double number = ((Number) value).doubleValue();
+		if (Double.isNaN(number)) {
+			throw new IllegalArgumentException("NaN cannot be collected into buckets");
+		}
+		if (number < min) {
+			return keys[0];
+		}
+		if (number > max) {
+			return keys[keys.length - 1];
+		}
+		int index = (int) ((number - min) / width) + 1;
+		// max itself and rounding errors at the top end belong to the last range
+		return keys[Math.min(index, keys.length - 2)];
+	}
+
+	private static String display(double number) {
+		return BigDecimal.valueOf(number).stripTrailingZeros().toPlainString();
+	}
+
+	private static class Bucket implements Comparable<Bucket> {
+		private final int index;
+		private final String label;
+
+		private Bucket(int index, String label) {
+			this.index = index;
+			this.label = label;
+		}
+
+		@Override
+		public int compareTo(Bucket other) {
+			return Integer.compare(index, other.index);
+		}
+
+		@Override
+		public String toString() {
+			return label;
+		}
+	}
+}
@@ -14,10 +14,19 @@ import net.jqwik.engine.facades.*;
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
-	private final Map<List<Object>, Integer> counts = new LinkedHashMap<>();
+	// Values are collected in every try, that's why updating a count must only take a single lookup
+	private final Map<List<Object>, Counter> counts = new LinkedHashMap<>();
 	private final List<Consumer<StatisticsCoverage>> coverageCheckers = new ArrayList<>();
 	private final String label;
 
+	private int countAllCollects = 0;
+	private int numberOfValues = -1;
+
+	// 0 means that all values are kept
+	private int maxEntries = 0;
+
+	private NumberBuckets numberBuckets = null;
+
 	private List<StatisticsEntryImpl> statisticsEntries = null;
 
 	public StatisticsCollectorImpl(String label) {
@@ -25,17 +34,87 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public StatisticsCollector collect(Object... values) {
+	public synchronized StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
-		List<Object> key = keyFrom(values);
+		List<Object> key = numberBuckets != null ? bucketKeyFrom(values) : keyFrom(values);
 		ensureSameNumberOfValues(key);
 		updateCounts(key);
 		return this;
 	}
 
+	@Override
+	public synchronized StatisticsCollector buckets(double min, double max, int numberOfBuckets) {
+		if (numberBuckets != null && numberBuckets.hasSameRanges(min, max, numberOfBuckets)) {
+			return this;
+		}
+		if (countAllCollects > 0) {
+			String message = String.format("StatisticsCollector[%s]: buckets must be set before the first value is collected", label);
+			throw new IllegalArgumentException(message);
+		}
+		numberBuckets = new NumberBuckets(min, max, numberOfBuckets);
+		return this;
+	}
+
+	private List<Object> bucketKeyFrom(Object[] values) {
+		if (values == null || values.length != 1) {
+			String message = String.format("StatisticsCollector[%s] with buckets must be called with a single number", label);
+			throw new IllegalArgumentException(message);
+		}
+		if (values[0] == null) {
+			return Collections.singletonList(null);
+		}
+		return numberBuckets.keyFor(values[0]);
+	}
+
+	@Override
+	public synchronized StatisticsCollector approximate(int maxEntries) {
+		if (maxEntries <= 0) {
+			String message = String.format("StatisticsCollector[%s]: maxEntries must be greater than 0 but is %s", label, maxEntries);
+			throw new IllegalArgumentException(message);
+		}
+		if (this.maxEntries != maxEntries) {
+			this.maxEntries = maxEntries;
+			if (counts.size() > maxEntries) {
+				dropRareValues();
+			}
+		}
+		return this;
+	}
+
 	private void updateCounts(List<Object> key) {
-		int count = counts.computeIfAbsent(key, any -> 0);
-		counts.put(key, ++count);
+		Counter counter = counts.get(key);
+		if (counter == null) {
+			counter = new Counter();
+			counts.put(key, counter);
+		}
+		counter.count++;
+		countAllCollects++;
+		statisticsEntries = null;
+		// Dropping only when twice the number of entries is reached keeps the amortized cost per collect low
+		if (maxEntries > 0 && counts.size() > 2 * maxEntries) {
+			dropRareValues();
+		}
+	}
+
+	private void dropRareValues() {
+		int[] sortedCounts = counts.values().stream().mapToInt(counter -> counter.count).sorted().toArray();
+		int threshold = sortedCounts[sortedCounts.length - maxEntries];
+		int keptWithThreshold = (int) Arrays.stream(sortedCounts, sortedCounts.length - maxEntries, sortedCounts.length)
+											.filter(count -> count == threshold)
+											.count();
+		Iterator<Counter> iterator = counts.values().iterator();
+		while (iterator.hasNext()) {
+			int count = iterator.next().count;
+			if (count < threshold) {
+				iterator.remove();
+			} else if (count == threshold) {
+				if (keptWithThreshold > 0) {
+					keptWithThreshold--;
+				} else {
+					iterator.remove();
+				}
+			}
+		}
 		statisticsEntries = null;
 	}
 
@@ -47,11 +126,11 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	private void ensureSameNumberOfValues(List<Object> keyCandidate) {
-		if (counts.isEmpty()) {
+		if (numberOfValues < 0) {
+			numberOfValues = keyCandidate.size();
 			return;
 		}
-		List<Object> anyKey = counts.keySet().iterator().next();
-		if (anyKey.size() != keyCandidate.size()) {
+		if (numberOfValues != keyCandidate.size()) {
 			String message = String.format("StatisticsCollector[%s] must always be called with same number of values", label);
 			throw new IllegalArgumentException(message);
 		}
@@ -70,27 +149,44 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return statisticsEntry(values).percentage();
 	}
 
-	private StatisticsEntry statisticsEntry(Object[] values) {
-		List<Object> key = keyFrom(values);
-		return statisticsEntries()
-				   .stream()
-				   .filter(entry -> entry.values().equals(key))
-				   .findFirst()
-				   .orElse(StatisticsEntryImpl.nullFor(key));
+	private synchronized StatisticsEntry statisticsEntry(Object[] values) {
+		// With buckets a number is looked up in the range it would have been counted in
+		List<Object> key = numberBuckets != null ? bucketKeyFrom(values) : keyFrom(values);
+		Counter counter = counts.get(key);
+		if (counter == null) {
+			return StatisticsEntryImpl.nullFor(key);
+		}
+		return entry(key, counter.count);
+	}
+
+	private synchronized StatisticsEntry query(Predicate<List<Object>> query) {
+		StatisticsEntryImpl result = StatisticsEntryImpl.NULL;
+		for (Map.Entry<List<Object>, Counter> entry : counts.entrySet()) {
+			if (query.test(entry.getKey())) {
+				result = result.plus(entry(entry.getKey(), entry.getValue().count));
+			}
+		}
+		return result;
 	}
 
-	private StatisticsEntry query(Predicate<List<Object>> query) {
-		return statisticsEntries()
-				   .stream()
-				   .filter(entry -> {
-					   List<Object> values = entry.values();
-					   return query.test(values);
-				   })
-				   .reduce(StatisticsEntryImpl.NULL, StatisticsEntryImpl::plus);
+	private StatisticsEntryImpl entry(List<Object> key, int count) {
+		double percentage = count * 100.0 / countAllCollects;
+		return new StatisticsEntryImpl(key, displayKey(key), count, percentage);
 	}
 
-	public int countAllCollects() {
-		return counts.values().stream().mapToInt(aCount -> aCount).sum();
+	public synchronized int countAllCollects() {
+		return countAllCollects;
+	}
+
+	/**
+	 * @return number of collects of values that have been dropped because of {@linkplain #approximate(int)}
+	 */
+	public synchronized int countDroppedCollects() {
+		int countKept = 0;
+		for (Counter counter : counts.values()) {
+			countKept += counter.count;
+		}
+		return countAllCollects - countKept;
 	}
 
 	// Currently only used for testing
@@ -113,11 +209,13 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		}
 	}
 
-	public Map<List<Object>, Integer> getCounts() {
-		return counts;
+	public synchronized Map<List<Object>, Integer> getCounts() {
+		Map<List<Object>, Integer> countsByKey = new LinkedHashMap<>();
+		counts.forEach((key, counter) -> countsByKey.put(key, counter.count));
+		return countsByKey;
 	}
 
-	public List<StatisticsEntryImpl> statisticsEntries() {
+	public synchronized List<StatisticsEntryImpl> statisticsEntries() {
 		if (statisticsEntries != null) {
 			return statisticsEntries;
 		}
@@ -126,29 +224,21 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	private List<StatisticsEntryImpl> calculateStatistics() {
-		int sum = countAllCollects();
 		return counts.entrySet()
 					 .stream()
 					 .sorted(this::compareStatisticsEntries)
 					 .filter(entry -> !entry.getKey().equals(Collections.emptyList()))
-					 .map(entry -> {
-						 double percentage = entry.getValue() * 100.0 / sum;
-						 return new StatisticsEntryImpl(
-							 entry.getKey(),
-							 displayKey(entry.getKey()),
-							 entry.getValue(), percentage
-						 );
-					 })
+					 .map(entry -> entry(entry.getKey(), entry.getValue().count))
 					 .collect(Collectors.toList());
 	}
 
-	private int compareStatisticsEntries(Map.Entry<List<Object>, Integer> e1, Map.Entry<List<Object>, Integer> e2) {
+	private int compareStatisticsEntries(Map.Entry<List<Object>, Counter> e1, Map.Entry<List<Object>, Counter> e2) {
 		List<Object> k1 = e1.getKey();
 		List<Object> k2 = e2.getKey();
 		if (k1.size() != k2.size()) {
 			return Integer.compare(k1.size(), k2.size());
 		}
-		return e2.getValue().compareTo(e1.getValue());
+		return Integer.compare(e2.getValue().count, e1.getValue().count);
 	}
 
 	private String displayKey(List<Object> key) {
@@ -254,4 +344,8 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		}
 
 	}
+
+	private static class Counter {
+		private int count = 0;
+	}
 }
@@ -9,6 +9,7 @@ public class StatisticsPublisher {
 	private final StatisticsReportFormat statisticsReportFormat;
 	private final List<StatisticsEntry> entries;
 	private final int countCollects;
+	private final int countDroppedCollects;
 	private final String label;
 
 	public StatisticsPublisher(
@@ -19,6 +20,7 @@ public class StatisticsPublisher {
 			statisticsReportFormat,
 			statisticsCollector.statisticsEntries(),
 			statisticsCollector.countAllCollects(),
+			statisticsCollector.countDroppedCollects(),
 			statisticsCollector.label()
 		);
 	}
@@ -28,11 +30,13 @@ public class StatisticsPublisher {
 		StatisticsReportFormat statisticsReportFormat,
 		List<? extends StatisticsEntry> entries,
 		int countCollects,
+		int countDroppedCollects,
 		String label
 	) {
 		this.statisticsReportFormat = statisticsReportFormat;
 		this.entries = (List<StatisticsEntry>) entries;
 		this.countCollects = countCollects;
+		this.countDroppedCollects = countDroppedCollects;
 		this.label = label;
 	}
 
@@ -52,6 +56,10 @@ public class StatisticsPublisher {
 		for (String reportLine : reportLines) {
 			report.append(formatReportLine(reportLine));
 		}
+		if (countDroppedCollects > 0) {
+			String droppedLine = String.format("(%d collects of rare values not shown, counts are approximate)", countDroppedCollects);
+			report.append(formatReportLine(droppedLine));
+		}
 		return report.toString();
 	}
 
@@ -0,0 +1,158 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.configurators.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.support.*;
+import net.jqwik.engine.support.types.*;
+
+/**
+ * Caches resolved arbitraries across all properties and containers of a test run.
+ * Entries are keyed by the type usage and the providers and configurators used for resolution.
+ *
+ * <p>
+ * Only type usages whose resolution cannot depend on the test instance are cached,
+ * i.e. types without references to provider methods or arbitrary suppliers anywhere in their structure.
+ * </p>
+ */
+public class ArbitraryResolutionCache {
+
+	static final int MAX_SIZE = 500;
+
+	// Cleared when a test run has finished, so that no arbitraries, providers and configurators are kept alive across runs
+	private static final Map<Tuple2<Context, TypeUsage>, Set<Arbitrary<?>>> resolved = new LruCache<>(MAX_SIZE);
+
+	// Resolvers index their providers by raw type, which is only worthwhile when the index is shared
+	private static final Map<Context, RegisteredArbitraryResolver> registeredResolvers = new LruCache<>(MAX_SIZE);
+
+	private static final AtomicLong hits = new AtomicLong(0);
+	private static final AtomicLong misses = new AtomicLong(0);
+
+	private ArbitraryResolutionCache() {
+	}
+
+	static Context context(Collection<ArbitraryProvider> providers, Collection<ArbitraryConfigurator> configurators) {
+		return new Context(providers, configurators);
+	}
+
+	static RegisteredArbitraryResolver registeredArbitraryResolver(Context context) {
+		synchronized (registeredResolvers) {
+			return registeredResolvers.computeIfAbsent(context, c -> new RegisteredArbitraryResolver(c.providers));
+		}
+	}
+
+	static Set<Arbitrary<?>> resolve(Context context, TypeUsage targetType, Function<TypeUsage, Set<Arbitrary<?>>> resolver) {
+		if (!isCacheable(targetType)) {
+			return resolver.apply(targetType);
+		}
+		Tuple2<Context, TypeUsage> key = Tuple.of(context, targetType);
+
+		Set<Arbitrary<?>> arbitraries;
+		synchronized (resolved) {
+			arbitraries = resolved.get(key);
+		}
+		if (arbitraries != null) {
+			hits.incrementAndGet();
+			return new LinkedHashSet<>(arbitraries);
+		}
+		misses.incrementAndGet();
+
+		// Resolution is recursive for type arguments, that's why it is not done while holding the lock
+		Set<Arbitrary<?>> newArbitraries = resolver.apply(targetType);
+		synchronized (resolved) {
+			resolved.putIfAbsent(key, new LinkedHashSet<>(newArbitraries));
+		}
+		return newArbitraries;
+	}
+
+	static boolean isCacheable(TypeUsage typeUsage) {
+		if (!(typeUsage instanceof TypeUsageImpl) || ((TypeUsageImpl) typeUsage).hasMetaInfo()) {
+			return false;
+		}
+		if (typeUsage.isTypeVariableOrWildcard()) {
+			return false;
+		}
+		if (dependsOnTestInstance(typeUsage)) {
+			return false;
+		}
+		if (!typeUsage.getComponentType().map(ArbitraryResolutionCache::isCacheable).orElse(true)) {
+			return false;
+		}
+		return typeUsage.getTypeArguments().stream().allMatch(ArbitraryResolutionCache::isCacheable);
+	}
+
+	private static boolean dependsOnTestInstance(TypeUsage typeUsage) {
+		boolean forAllWithSpec = typeUsage.findAnnotation(ForAll.class).map(
+			forAll -> !forAll.value().equals(ForAll.NO_VALUE) || !forAll.supplier().equals(ArbitrarySupplier.NONE.class)
+		).orElse(false);
+		return forAllWithSpec || typeUsage.isAnnotated(From.class);
+	}
+
+	/**
+	 * Forget all resolved arbitraries and shared resolvers and reset statistics. Called when a test run has finished.
+	 */
+	public static void clear() {
+		synchronized (resolved) {
+			resolved.clear();
+		}
+		synchronized (registeredResolvers) {
+			registeredResolvers.clear();
+		}
+		hits.set(0);
+		misses.set(0);
+	}
+
+	public static long hits() {
+		return hits.get();
+	}
+
+	public static long misses() {
+		return misses.get();
+	}
+
+	public static int size() {
+		synchronized (resolved) {
+			return resolved.size();
+		}
+	}
+
+	public static String statistics() {
+		long lookups = hits() + misses();
+		return String.format(
+			Locale.ROOT,
+			"Arbitrary resolution cache: size=%d, hits=%d, misses=%d, hit rate=%.1f%%",
+			size(), hits(), misses(), lookups == 0 ? 0.0 : (double) hits() / lookups * 100
+		);
+	}
+
+	static class Context {
+
+		private final List<ArbitraryProvider> providers;
+		private final List<ArbitraryConfigurator> configurators;
+		private final int hashCode;
+
+		private Context(Collection<ArbitraryProvider> providers, Collection<ArbitraryConfigurator> configurators) {
+			this.providers = new ArrayList<>(providers);
+			this.configurators = new ArrayList<>(configurators);
+			this.hashCode = Objects.hash(this.providers, this.configurators);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Context other = (Context) o;
+			return hashCode == other.hashCode && providers.equals(other.providers) && configurators.equals(other.configurators);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -167,17 +167,27 @@ public class DomainContextBaseProviders {
 			this.method = method;
 			this.base = base;
 			this.priority = priority;
+			this.arbitraryReturnType = arbitraryReturnType();
 		}
 
 		private final Method method;
 		private final Object base;
 		private final int priority;
+		private final TypeUsage arbitraryReturnType;
 
 		@Override
 		public boolean canProvideFor(TypeUsage targetType) {
 			return targetTypeFits(targetType);
 		}
 
+		@Override
+		public Set<Class<?>> providedTypes() {
+			if (arbitraryReturnType.isTypeVariableOrWildcard()) {
+				return Collections.emptySet();
+			}
+			return Collections.singleton(arbitraryReturnType.getRawType());
+		}
+
 		@Override
 		public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 			SubtypeProvider domainSubtypeProvider = new net.jqwik.engine.properties.DomainContextBaseProviders.DomainContextBaseSubtypeProvider(base, subtypeProvider);
@@ -190,7 +200,6 @@ public class DomainContextBaseProviders {
 		}
 
 		private boolean targetTypeFits(TypeUsage targetType) {
-			TypeUsage arbitraryReturnType = arbitraryReturnType();
 			return arbitraryReturnType.canBeAssignedTo(targetType);
 		}
 
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -21,17 +22,41 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 	}
 
 	private final List<EdgeCases<Object>> edgeCases;
+	private final int total;
 	private final Iterator<List<Shrinkable<Object>>> iterator;
 
 	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases) {
+		this(edgeCases, false);
+	}
+
+	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases, boolean pairwise) {
 		this.edgeCases = edgeCases;
-		this.iterator = createIterator();
+		if (edgeCases.isEmpty()) {
+			this.total = 0;
+			this.iterator = Collections.emptyIterator();
+		} else if (pairwise) {
+			List<List<Supplier<Shrinkable<Object>>>> combinations = pairwiseCombinations();
+			this.total = combinations.size();
+			this.iterator = combinations.stream().map(EdgeCasesGenerator::supply).iterator();
+		} else {
+			this.total = edgeCases.stream().mapToInt(EdgeCases::size).reduce(1, (a, b) -> a * b);
+			this.iterator = createIterator();
+		}
+	}
+
+	private List<List<Supplier<Shrinkable<Object>>>> pairwiseCombinations() {
+		List<List<Supplier<Shrinkable<Object>>>> suppliers =
+			edgeCases.stream()
+					 .map(EdgeCases::suppliers)
+					 .collect(Collectors.toList());
+		return Combinatorics.combinePairwise(suppliers);
+	}
+
+	private static List<Shrinkable<Object>> supply(List<Supplier<Shrinkable<Object>>> suppliers) {
+		return suppliers.stream().map(Supplier::get).collect(Collectors.toList());
 	}
 
 	private Iterator<List<Shrinkable<Object>>> createIterator() {
-		if (this.edgeCases.isEmpty()) {
-			return Collections.emptyIterator();
-		}
 		List<Iterable<Shrinkable<Object>>> iterables =
 			edgeCases
 				.stream()
@@ -40,6 +65,13 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 		return Combinatorics.combine(iterables);
 	}
 
+	/**
+	 * @return the number of combinations of edge cases this generator will produce
+	 */
+	int total() {
+		return total;
+	}
+
 	@Override
 	public boolean hasNext() {
 		return iterator.hasNext();
@@ -0,0 +1,80 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Selects a slice of all samples of exhaustive generation, e.g. to spread
+ * exhaustive properties over several forked test processes.
+ * The slices of all shards together cover all samples exactly once.
+ */
+public class ExhaustiveShard {
+
+	public static final ExhaustiveShard ALL = new ExhaustiveShard(1, 1);
+
+	/**
+	 * @param shard A string of the form "index/count", e.g. "2/4", with index starting at 1
+	 */
+	public static ExhaustiveShard parse(String shard) {
+		String[] indexAndCount = shard.trim().split("/");
+		if (indexAndCount.length != 2) {
+			throw new IllegalArgumentException(String.format("Shard [%s] must have the form index/count", shard));
+		}
+		int index = Integer.parseInt(indexAndCount[0].trim());
+		int count = Integer.parseInt(indexAndCount[1].trim());
+		if (count < 1 || index < 1 || index > count) {
+			String message = String.format("Shard [%s] must have an index between 1 and count", shard);
+			throw new IllegalArgumentException(message);
+		}
+		return new ExhaustiveShard(index, count);
+	}
+
+	private final int index;
+	private final int count;
+
+	private ExhaustiveShard(int index, int count) {
+		this.index = index;
+		this.count = count;
+	}
+
+	public boolean isAll() {
+		return count == 1;
+	}
+
+	/**
+	 * @return the index of the first sample (included)
+	 */
+	public long start(long numberOfSamples) {
+		return sliceBorder(numberOfSamples, index - 1);
+	}
+
+	/**
+	 * @return the index of the last sample (excluded)
+	 */
+	public long end(long numberOfSamples) {
+		// The last shard takes everything that's left in case the number of samples is just an estimate
+		return index == count ? Long.MAX_VALUE : sliceBorder(numberOfSamples, index);
+	}
+
+	private long sliceBorder(long numberOfSamples, int sliceIndex) {
+		// Avoid overflow of numberOfSamples * sliceIndex
+		return numberOfSamples / count * sliceIndex + numberOfSamples % count * sliceIndex / count;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ExhaustiveShard that = (ExhaustiveShard) o;
+		return index == that.index && count == that.count;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(index, count);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s/%s", index, count);
+	}
+}
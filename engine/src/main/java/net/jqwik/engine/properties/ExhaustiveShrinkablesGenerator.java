@@ -13,13 +13,22 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 		List<MethodParameter> parameters,
 		ArbitraryResolver arbitraryResolver,
 		long maxNumberOfSamples
+	) {
+		return forParameters(parameters, arbitraryResolver, maxNumberOfSamples, ExhaustiveShard.ALL);
+	}
+
+	public static ExhaustiveShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		long maxNumberOfSamples,
+		ExhaustiveShard shard
 	) {
 		List<List<ExhaustiveGenerator<Object>>> exhaustiveGenerators =
 			parameters.stream()
 					  .map(parameter -> resolveParameter(arbitraryResolver, parameter, maxNumberOfSamples))
 					  .collect(Collectors.toList());
 
-		return new ExhaustiveShrinkablesGenerator(exhaustiveGenerators);
+		return new ExhaustiveShrinkablesGenerator(exhaustiveGenerators, shard);
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
@@ -47,19 +56,106 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 	}
 
 	private final List<List<ExhaustiveGenerator<Object>>> generators;
+	private final ExhaustiveShard shard;
 	private final long maxCount;
 	private Iterator<List<Shrinkable<Object>>> combinatorialIterator;
 
-	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
+	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators, ExhaustiveShard shard) {
 		this.maxCount = generators
 							.stream()
 							.mapToLong(set -> set.stream().mapToLong(ExhaustiveGenerator::maxCount).sum())
 							.reduce((product, count) -> product * count)
 							.orElse(1L);
 		this.generators = generators;
+		this.shard = shard;
 		this.reset();
 	}
 
+	private Iterator<List<Shrinkable<Object>>> createIterator() {
+		if (shard.isAll()) {
+			return combine(generators);
+		}
+		long start = shard.start(maxCount);
+		long end = shard.end(maxCount);
+		if (isRandomAccess()) {
+			return sliceByIndex(start, Math.min(end, maxCount));
+		}
+		return slice(combine(generators), start, end);
+	}
+
+	private boolean isRandomAccess() {
+		return generators.stream().flatMap(List::stream).allMatch(ExhaustiveGenerator::isRandomAccess);
+	}
+
+	// The last parameter changes fastest, which is the same order as in combine()
+	private Iterator<List<Shrinkable<Object>>> sliceByIndex(long start, long end) {
+		return new Iterator<List<Shrinkable<Object>>>() {
+			long index = start;
+
+			@Override
+			public boolean hasNext() {
+				return index < end;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return decode(index++);
+			}
+		};
+	}
+
+	private List<Shrinkable<Object>> decode(long index) {
+		List<Shrinkable<Object>> values = new ArrayList<>(Collections.nCopies(generators.size(), null));
+		long rest = index;
+		for (int i = values.size() - 1; i >= 0; i--) {
+			List<ExhaustiveGenerator<Object>> generatorList = generators.get(i);
+			long countOfParameter = generatorList.stream().mapToLong(ExhaustiveGenerator::maxCount).sum();
+			values.set(i, Shrinkable.unshrinkable(valueAt(generatorList, rest % countOfParameter)));
+			rest /= countOfParameter;
+		}
+		return values;
+	}
+
+	private Object valueAt(List<ExhaustiveGenerator<Object>> generatorList, long index) {
+		long rest = index;
+		for (ExhaustiveGenerator<Object> generator : generatorList) {
+			if (rest < generator.maxCount()) {
+				return generator.get(rest);
+			}
+			rest -= generator.maxCount();
+		}
+		throw new IndexOutOfBoundsException(String.format("Index [%s] is out of bounds", index));
+	}
+
+	// Generators without random access must be iterated from the start, but only the slice is tried
+	private Iterator<List<Shrinkable<Object>>> slice(Iterator<List<Shrinkable<Object>>> iterator, long start, long end) {
+		long skipped = 0;
+		while (skipped < start && iterator.hasNext()) {
+			iterator.next();
+			skipped++;
+		}
+		return new Iterator<List<Shrinkable<Object>>>() {
+			long index = start;
+
+			@Override
+			public boolean hasNext() {
+				return index < end && iterator.hasNext();
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				index++;
+				return iterator.next();
+			}
+		};
+	}
+
 	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
 		List<Iterable<Object>> iterables = generators
 											   .stream()
@@ -105,7 +201,7 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public void reset() {
-		this.combinatorialIterator = combine(generators);
+		this.combinatorialIterator = createIterator();
 	}
 
 	public long maxCount() {
@@ -17,11 +17,15 @@ import net.jqwik.engine.support.*;
 
 public class GenericProperty {
 
+	// Number of tries per worker that are generated before they are executed in parallel
+	private static final int PARALLEL_TRIES_PER_WORKER = 10;
+
 	private final String name;
 	private final PropertyConfiguration configuration;
 	private final ParametersGenerator parametersGenerator;
 	private final TryLifecycleExecutor tryLifecycleExecutor;
 	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final PropertyExecutionMetricsRecorder metricsRecorder;
 
 	public GenericProperty(
 		String name,
@@ -29,51 +33,119 @@ public class GenericProperty {
 		ParametersGenerator parametersGenerator,
 		TryLifecycleExecutor tryLifecycleExecutor,
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier
+	) {
+		this(name, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier, new PropertyExecutionMetricsRecorder());
+	}
+
+	public GenericProperty(
+		String name,
+		PropertyConfiguration configuration,
+		ParametersGenerator parametersGenerator,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		PropertyExecutionMetricsRecorder metricsRecorder
 	) {
 		this.name = name;
 		this.configuration = configuration;
 		this.parametersGenerator = parametersGenerator;
-		this.tryLifecycleExecutor = tryLifecycleExecutor;
+		this.tryLifecycleExecutor = metricsRecorder.measureTries(tryLifecycleExecutor);
 		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
+		PropertyCheckResult checkResult;
+		int parallelism = configuration.getParallelism();
+		if (parallelism > 1 && configuration.getTries() > 1) {
+			try (ParallelTriesExecutor executor = new ParallelTriesExecutor(parallelism)) {
+				checkResult = checkTries(reporter, reporting, parallelism * PARALLEL_TRIES_PER_WORKER, executor::executeAll);
+			}
+		} else {
+			checkResult = checkTries(reporter, reporting, 1, GenericProperty::executeInCurrentThread);
+		}
+		return checkResult.withMetrics(metricsRecorder.metrics());
+	}
+
+	/**
+	 * Tries are generated sequentially in batches and then executed - in parallel if batches have more than one try.
+	 * Results are evaluated in the order of generation so that the first falsified sample
+	 * - and its generation info - are the same as in sequential execution.
+	 */
+	private PropertyCheckResult checkTries(
+		Reporter reporter,
+		Reporting[] reporting,
+		int batchSize,
+		BiFunction<List<GeneratedTry>, Function<GeneratedTry, TryExecutionResult>, List<ParallelTriesExecutor.TryOutcome>> triesExecutor
+	) {
 		int maxTries = configuration.getTries();
 		int countChecks = 0;
 		int countTries = 0;
-		boolean finishEarly = false;
 		while (countTries < maxTries) {
-			if (finishEarly) {
-				break;
+			List<GeneratedTry> batch = new ArrayList<>();
+			Throwable generationError = null;
+			while (batch.size() < batchSize && countTries + batch.size() < maxTries && parametersGenerator.hasNext()) {
+				// A try that is generated before the previous ones have been executed needs its own values in try stores
+				Object tryIdentifier = batchSize > 1 ? new Object() : null;
+				TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+				try {
+					List<Shrinkable<Object>> shrinkableParams = CurrentTry.runWithTry(
+						tryIdentifier,
+						() -> metricsRecorder.measureGeneration(() -> parametersGenerator.next(tryLifecycleContext))
+					);
+					GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
+					batch.add(new GeneratedTry(tryIdentifier, tryLifecycleContext, shrinkableParams, generationInfo));
+				} catch (Throwable throwable) {
+					// Mostly TooManyFilterMissesException gets here
+					JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+					generationError = throwable;
+					break;
+				}
 			}
-			if (!parametersGenerator.hasNext()) {
+			if (batch.isEmpty() && generationError == null) {
 				break;
 			}
-			countTries++;
-
-			List<Shrinkable<Object>> shrinkableParams;
-			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
-			try {
-				shrinkableParams = parametersGenerator.next(tryLifecycleContext);
-			} catch (Throwable throwable) {
-				// Mostly TooManyFilterMissesException gets here
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
 
-				return exhaustedCheckResult(countTries, countChecks, throwable);
-			}
+			List<ParallelTriesExecutor.TryOutcome> outcomes = triesExecutor.apply(
+				batch,
+				aTry -> CurrentTry.runWithTry(
+					aTry.tryIdentifier,
+					() -> testPredicate(aTry.tryLifecycleContext, aTry.sample, reporter, reporting)
+				)
+			);
 
-			List<Object> sample = extractParams(shrinkableParams);
-			try {
+			for (int i = 0; i < batch.size(); i++) {
+				GeneratedTry aTry = batch.get(i);
+				ParallelTriesExecutor.TryOutcome outcome = outcomes.get(i);
+				countTries++;
 				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				if (outcome.throwable().isPresent()) {
+					// Only not AssertionErrors and non Exceptions get here
+					Throwable throwable = outcome.throwable().get();
+					FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+						aTry.sample,
+						aTry.shrinkableParams,
+						Optional.of(throwable),
+						Collections.emptyList()
+					);
+					return PropertyCheckResult.failed(
+						configuration.getStereotype(), name, countTries, countChecks, aTry.generationInfo,
+						configuration.getGenerationMode(),
+						configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+						falsifiedSample, null, throwable
+					);
+				}
+				TryExecutionResult tryExecutionResult = outcome.result().get();
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
-						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
-						continue;
+						if (tryExecutionResult.shouldPropertyFinishEarly()) {
+							// Later tries of the batch - and a generation error - do not count
+							return finalCheckResult(maxTries, countChecks, countTries);
+						}
+						break;
 					case FALSIFIED:
 						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-							sample,
-							shrinkableParams,
+							aTry.sample,
+							aTry.shrinkableParams,
 							tryExecutionResult.throwable(),
 							tryExecutionResult.footnotes()
 						);
@@ -83,7 +155,8 @@ public class GenericProperty {
 							countChecks,
 							countTries,
 							falsifiedSample,
-							tryLifecycleContext.targetMethod()
+							aTry.generationInfo,
+							aTry.tryLifecycleContext.targetMethod()
 						);
 					case INVALID:
 						countChecks--;
@@ -104,24 +177,25 @@ public class GenericProperty {
 						String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
 						throw new RuntimeException(message);
 				}
-			} catch (Throwable throwable) {
-				// Only not AssertionErrors and non Exceptions get here
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					sample,
-					shrinkableParams,
-					Optional.of(throwable),
-					Collections.emptyList()
-				);
-				GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
-				return PropertyCheckResult.failed(
-					configuration.getStereotype(), name, countTries, countChecks, generationInfo,
-					configuration.getGenerationMode(),
-					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
-					falsifiedSample, null, throwable
-				);
+			}
+			if (generationError != null) {
+				// The try whose generation failed is counted, too
+				return exhaustedCheckResult(countTries + 1, countChecks, generationError);
 			}
 		}
+		return finalCheckResult(maxTries, countChecks, countTries);
+	}
+
+	private static List<ParallelTriesExecutor.TryOutcome> executeInCurrentThread(
+		List<GeneratedTry> tries,
+		Function<GeneratedTry, TryExecutionResult> tryExecutor
+	) {
+		return tries.stream()
+					.map(aTry -> ParallelTriesExecutor.TryOutcome.of(() -> tryExecutor.apply(aTry)))
+					.collect(Collectors.toList());
+	}
+
+	private PropertyCheckResult finalCheckResult(int maxTries, int countChecks, int countTries) {
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
 			return exhaustedCheckResult(maxTries, countChecks, null);
 		}
@@ -178,12 +252,22 @@ public class GenericProperty {
 	private PropertyCheckResult shrinkAndCreateCheckResult(
 		Reporter reporter, Reporting[] reporting, int countChecks,
 		int countTries, FalsifiedSample originalSample,
+		GenerationInfo originalGenerationInfo,
 		Method targetMethod
 	) {
-		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple = shrink(reporter, reporting, originalSample, targetMethod);
+		FalsifiedSample sampleToShrink = new FalsifiedSampleImpl(
+			originalSample.parameters(),
+			ReplayableShrinkable.unwrap(originalSample.shrinkables()),
+			originalSample.falsifyingError(),
+			originalSample.footnotes()
+		);
+		Optional<ReplayableGeneration> replayableGeneration =
+			configuration.getShrinkingMode() == ShrinkingMode.OFF
+				? Optional.empty()
+				: ReplayableShrinkable.replayableGeneration(originalSample.shrinkables());
+		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple = shrink(reporter, reporting, sampleToShrink, replayableGeneration, targetMethod);
 		ShrunkFalsifiedSample shrunkSample = tuple.get1();
-		GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed())
-														   .appendShrinkingSequence(tuple.get2());
+		GenerationInfo generationInfo = originalGenerationInfo.appendShrinkingSequence(tuple.get2());
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, generationInfo, configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
@@ -195,6 +279,7 @@ public class GenericProperty {
 		Reporter reporter,
 		Reporting[] reporting,
 		FalsifiedSample originalSample,
+		Optional<ReplayableGeneration> replayableGeneration,
 		Method targetMethod
 	) {
 		// TODO: Find a way that falsifier and resolved ParameterSupplier get the same instance of tryLifecycleContext during shrinking.
@@ -207,11 +292,13 @@ public class GenericProperty {
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
 			falsifiedSampleReporter,
-			targetMethod
+			targetMethod,
+			replayableGeneration,
+			configuration.shrinkingParallelism()
 		);
 
-		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, tryLifecycleExecutor);
-		ShrunkFalsifiedSample falsifiedSample = shrinker.shrink(forAllFalsifier);
+		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, metricsRecorder.shrinkingTries(tryLifecycleExecutor));
+		ShrunkFalsifiedSample falsifiedSample = metricsRecorder.measureShrinking(() -> shrinker.shrink(forAllFalsifier));
 		return Tuple.of(falsifiedSample, shrinker.shrinkingSequence());
 	}
 
@@ -229,4 +316,25 @@ public class GenericProperty {
 		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
 	}
 
+	private class GeneratedTry {
+		private final Object tryIdentifier;
+		private final TryLifecycleContext tryLifecycleContext;
+		private final List<Shrinkable<Object>> shrinkableParams;
+		private final List<Object> sample;
+		private final GenerationInfo generationInfo;
+
+		private GeneratedTry(
+			Object tryIdentifier,
+			TryLifecycleContext tryLifecycleContext,
+			List<Shrinkable<Object>> shrinkableParams,
+			GenerationInfo generationInfo
+		) {
+			this.tryIdentifier = tryIdentifier;
+			this.tryLifecycleContext = tryLifecycleContext;
+			this.shrinkableParams = shrinkableParams;
+			this.sample = extractParams(shrinkableParams);
+			this.generationInfo = generationInfo;
+		}
+	}
+
 }
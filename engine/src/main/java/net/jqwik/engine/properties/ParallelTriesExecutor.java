@@ -0,0 +1,105 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Executes a batch of tries on a fixed number of worker threads.
+ * Current test descriptor and current domain context of the creating thread
+ * are made available in the worker threads.
+ */
+public class ParallelTriesExecutor implements AutoCloseable {
+
+	private final ExecutorService executor;
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentDomainContext;
+
+	public ParallelTriesExecutor(int parallelism) {
+		this.executor = Executors.newFixedThreadPool(parallelism);
+		this.currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		this.currentDomainContext = CurrentDomainContext.get();
+	}
+
+	/**
+	 * Outcomes are returned in the same order as the tries.
+	 */
+	<T> List<TryOutcome> executeAll(List<T> tries, Function<T, TryExecutionResult> tryExecutor) {
+		List<Future<TryOutcome>> futures =
+			tries.stream()
+				 .map(aTry -> submit(() -> tryExecutor.apply(aTry)))
+				 .collect(Collectors.toList());
+		List<TryOutcome> outcomes = new ArrayList<>();
+		for (Future<TryOutcome> future : futures) {
+			outcomes.add(waitFor(future));
+		}
+		return outcomes;
+	}
+
+	/**
+	 * Execute a single try in the background.
+	 */
+	public Future<TryOutcome> submit(Supplier<TryExecutionResult> execution) {
+		return executor.submit(() -> executeInContext(execution));
+	}
+
+	private TryOutcome executeInContext(Supplier<TryExecutionResult> execution) {
+		return TryOutcome.of(() -> CurrentDomainContext.runWithContext(currentDomainContext, () -> {
+			if (currentDescriptor == null) {
+				return execution.get();
+			}
+			return CurrentTestDescriptor.runWithDescriptor(currentDescriptor, execution);
+		}));
+	}
+
+	private TryOutcome waitFor(Future<TryOutcome> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	public static class TryOutcome {
+		private final TryExecutionResult result;
+		private final Throwable throwable;
+
+		private TryOutcome(TryExecutionResult result, Throwable throwable) {
+			this.result = result;
+			this.throwable = throwable;
+		}
+
+		static TryOutcome of(Supplier<TryExecutionResult> execution) {
+			try {
+				return new TryOutcome(execution.get(), null);
+			} catch (Throwable throwable) {
+				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				return new TryOutcome(null, throwable);
+			}
+		}
+
+		public Optional<TryExecutionResult> result() {
+			return Optional.ofNullable(result);
+		}
+
+		public Optional<Throwable> throwable() {
+			return Optional.ofNullable(throwable);
+		}
+	}
+}
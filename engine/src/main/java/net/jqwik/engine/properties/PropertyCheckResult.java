@@ -42,6 +42,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
+			null,
 			null
 		);
 	}
@@ -77,7 +78,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			originalSample,
 			shrunkSample,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -108,7 +110,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -137,7 +140,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -154,6 +158,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final PropertyExecutionMetrics metrics;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -167,7 +172,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
-		Throwable throwable
+		Throwable throwable,
+		PropertyExecutionMetrics metrics
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -182,6 +188,29 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Attach the metrics that have been taken while checking the property.
+	 */
+	public PropertyCheckResult withMetrics(PropertyExecutionMetrics metrics) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			generationInfo,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			metrics
+		);
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -236,7 +265,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					metrics
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -252,7 +282,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					metrics
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -296,6 +327,11 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return generation;
 	}
 
+	@Override
+	public Optional<PropertyExecutionMetrics> metrics() {
+		return Optional.ofNullable(metrics);
+	}
+
 	@Override
 	public EdgeCasesExecutionResult edgeCases() {
 		return new EdgeCasesExecutionResult(edgeCasesMode, edgeCasesTotal, edgeCasesTried);
@@ -13,11 +13,32 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 	private final RegisteredArbitraryResolver registeredArbitraryResolver;
 	private final RegisteredArbitraryConfigurer registeredArbitraryConfigurer;
 
+	// Only resolutions within the global domain context are shared across properties
+	// because other domain contexts are created anew for each property
+	private final ArbitraryResolutionCache.Context resolutionContext;
+
 	public PropertyMethodArbitraryResolver(Object testInstance, DomainContext domainContext) {
 		this(
 			testInstance,
-			new RegisteredArbitraryResolver(domainContext.getArbitraryProviders()),
-			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators())
+			domainContext,
+			domainContext == DomainContext.global()
+				? ArbitraryResolutionCache.context(domainContext.getArbitraryProviders(), domainContext.getArbitraryConfigurators())
+				: null
+		);
+	}
+
+	private PropertyMethodArbitraryResolver(
+		Object testInstance,
+		DomainContext domainContext,
+		ArbitraryResolutionCache.Context resolutionContext
+	) {
+		this(
+			testInstance,
+			resolutionContext != null
+				? ArbitraryResolutionCache.registeredArbitraryResolver(resolutionContext)
+				: new RegisteredArbitraryResolver(domainContext.getArbitraryProviders()),
+			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators()),
+			resolutionContext
 		);
 	}
 
@@ -25,10 +46,20 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 		Object testInstance,
 		RegisteredArbitraryResolver registeredArbitraryResolver,
 		RegisteredArbitraryConfigurer registeredArbitraryConfigurer
+	) {
+		this(testInstance, registeredArbitraryResolver, registeredArbitraryConfigurer, null);
+	}
+
+	PropertyMethodArbitraryResolver(
+		Object testInstance,
+		RegisteredArbitraryResolver registeredArbitraryResolver,
+		RegisteredArbitraryConfigurer registeredArbitraryConfigurer,
+		ArbitraryResolutionCache.Context resolutionContext
 	) {
 		super(testInstance);
 		this.registeredArbitraryResolver = registeredArbitraryResolver;
 		this.registeredArbitraryConfigurer = registeredArbitraryConfigurer;
+		this.resolutionContext = resolutionContext;
 	}
 
 	@Override
@@ -37,6 +68,14 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 		return apply(typeUsage);
 	}
 
+	@Override
+	public Set<Arbitrary<?>> apply(TypeUsage targetType) {
+		if (resolutionContext == null) {
+			return super.apply(targetType);
+		}
+		return ArbitraryResolutionCache.resolve(resolutionContext, targetType, super::apply);
+	}
+
 	@Override
 	protected Set<Arbitrary<?>> resolve(TypeUsage targetType) {
 		return registeredArbitraryResolver.resolve(targetType, this);
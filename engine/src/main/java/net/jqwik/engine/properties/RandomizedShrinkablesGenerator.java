@@ -25,19 +25,45 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		int genSize,
 		EdgeCasesMode edgeCasesMode
 	) {
+		return forParameters(parameters, arbitraryResolver, random, genSize, edgeCasesMode, false);
+	}
+
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		EdgeCasesMode edgeCasesMode,
+		boolean lazyShrinkables
+	) {
+		return forParameters(parameters, arbitraryResolver, random, genSize, edgeCasesMode, lazyShrinkables, false);
+	}
+
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		EdgeCasesMode edgeCasesMode,
+		boolean lazyShrinkables,
+		boolean choiceSequenceShrinking
+	) {
 
 		List<EdgeCases<Object>> listOfEdgeCases = listOfEdgeCases(parameters, arbitraryResolver, edgeCasesMode, genSize);
-		int edgeCasesTotal = calculateEdgeCasesTotal(listOfEdgeCases);
+		EdgeCasesGenerator edgeCasesGenerator = new EdgeCasesGenerator(listOfEdgeCases, edgeCasesMode.combinePairwise());
+		int edgeCasesTotal = edgeCasesGenerator.total();
 
 		logEdgeCasesOutnumberTriesIfApplicable(genSize, edgeCasesTotal);
 
 		return new RandomizedShrinkablesGenerator(
 			randomShrinkablesGenerator(parameters, arbitraryResolver, genSize, edgeCasesMode.activated()),
-			new EdgeCasesGenerator(listOfEdgeCases),
+			edgeCasesGenerator,
 			edgeCasesMode,
 			edgeCasesTotal,
 			calculateBaseToEdgeCaseRatio(listOfEdgeCases, genSize),
-			random.nextLong()
+			random.nextLong(),
+			lazyShrinkables,
+			choiceSequenceShrinking
 		);
 	}
 
@@ -52,13 +78,6 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		}
 	}
 
-	private static int calculateEdgeCasesTotal(final List<EdgeCases<Object>> listOfEdgeCases) {
-		if (listOfEdgeCases.isEmpty()) {
-			return 0;
-		}
-		return listOfEdgeCases.stream().mapToInt(EdgeCases::size).reduce(1, (a, b) -> a * b);
-	}
-
 	private static PurelyRandomShrinkablesGenerator randomShrinkablesGenerator(
 		List<MethodParameter> parameters,
 		ArbitraryResolver arbitraryResolver,
@@ -90,6 +109,7 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 		if (edgeCasesMode.activated() && !parameters.isEmpty()) {
 			int maxEdgeCasesNextParameter = genSize;
+			int maxEdgeCasesSoFar = 1;
 			for (MethodParameter parameter : parameters) {
 				EdgeCases<Object> edgeCases = resolveEdgeCases(arbitraryResolver, parameter, maxEdgeCasesNextParameter);
 				// If a single parameter has no edge cases the combination of parameters have no edge cases
@@ -97,7 +117,13 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 					return Collections.emptyList();
 				}
 				listOfEdgeCases.add(edgeCases);
-				maxEdgeCasesNextParameter = calculateNextParamMaxEdgeCases(maxEdgeCasesNextParameter, edgeCases.size());
+				if (edgeCasesMode.combinePairwise()) {
+					// Pairwise combinations grow with the product of the two largest numbers of edge cases
+					maxEdgeCasesSoFar = max(maxEdgeCasesSoFar, edgeCases.size());
+					maxEdgeCasesNextParameter = calculateNextParamMaxEdgeCases(genSize, maxEdgeCasesSoFar);
+				} else {
+					maxEdgeCasesNextParameter = calculateNextParamMaxEdgeCases(maxEdgeCasesNextParameter, edgeCases.size());
+				}
 			}
 		}
 		return listOfEdgeCases;
@@ -161,6 +187,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	private final int edgeCasesTotal;
 	private final int baseToEdgeCaseRatio;
 	private final long baseRandomSeed;
+	private final boolean lazyShrinkables;
+	private final boolean choiceSequenceShrinking;
 	private Random random;
 
 	private boolean allEdgeCasesGenerated = false;
@@ -172,7 +200,9 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		EdgeCasesMode edgeCasesMode,
 		int edgeCasesTotal,
 		int baseToEdgeCaseRatio,
-		long baseRandomSeed
+		long baseRandomSeed,
+		boolean lazyShrinkables,
+		boolean choiceSequenceShrinking
 	) {
 		this.randomGenerator = randomGenerator;
 		this.edgeCasesGenerator = edgeCasesGenerator;
@@ -180,6 +210,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		this.edgeCasesTotal = edgeCasesTotal;
 		this.baseToEdgeCaseRatio = baseToEdgeCaseRatio;
 		this.baseRandomSeed = baseRandomSeed;
+		this.lazyShrinkables = lazyShrinkables;
+		this.choiceSequenceShrinking = choiceSequenceShrinking;
 		this.random = SourceOfRandomness.newRandom(baseRandomSeed);
 	}
 
@@ -211,9 +243,30 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 				}
 			}
 		}
+		if (lazyShrinkables || choiceSequenceShrinking) {
+			return generateReplayable();
+		}
 		return randomGenerator.generateNext(random);
 	}
 
+	private List<Shrinkable<Object>> generateReplayable() {
+		Optional<SourceOfRandomness.RandomState> stateBefore = SourceOfRandomness.stateOf(random);
+		List<Shrinkable<Object>> shrinkables = randomGenerator.generateNext(random);
+		if (!stateBefore.isPresent()) {
+			return shrinkables;
+		}
+		SourceOfRandomness.RandomState stateAfter = SourceOfRandomness.stateOf(random).get();
+		SampleGeneration generation = new SampleGeneration(
+			randomGenerator::generateNext,
+			stateBefore.get(),
+			stateAfter,
+			shrinkables,
+			!lazyShrinkables,
+			choiceSequenceShrinking
+		);
+		return ReplayableShrinkable.forGeneration(generation);
+	}
+
 	@Override
 	public int edgeCasesTotal() {
 		return edgeCasesTotal;
@@ -1,24 +1,33 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.api.providers.ArbitraryProvider.*;
+import net.jqwik.engine.support.*;
 
 public class RegisteredArbitraryResolver {
 
 	private final List<ArbitraryProvider> registeredProviders = new ArrayList<>();
+	private final List<Set<Class<?>>> providedTypes = new ArrayList<>();
+
+	// Only providers that might fit a raw type in registration order
+	private final Map<Class<?>, List<ArbitraryProvider>> providersByRawType = new ConcurrentHashMap<>();
 
 	public RegisteredArbitraryResolver(Collection<ArbitraryProvider> registeredProviders) {
 		this.registeredProviders.addAll(registeredProviders);
 		this.registeredProviders.addAll(DefaultArbitraries.getDefaultProviders());
+		for (ArbitraryProvider provider : this.registeredProviders) {
+			this.providedTypes.add(boxed(provider.providedTypes()));
+		}
 	}
 
 	public Set<Arbitrary<?>> resolve(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		int currentPriority = Integer.MIN_VALUE;
 		Set<Arbitrary<?>> fittingArbitraries = new LinkedHashSet<>();
-		for (ArbitraryProvider provider : registeredProviders) {
+		for (ArbitraryProvider provider : candidateProviders(targetType)) {
 			if (provider.canProvideFor(targetType)) {
 				if (provider.priority() < currentPriority) {
 					continue;
@@ -34,4 +43,30 @@ public class RegisteredArbitraryResolver {
 		return fittingArbitraries;
 	}
 
+	private List<ArbitraryProvider> candidateProviders(TypeUsage targetType) {
+		if (targetType.isTypeVariableOrWildcard()) {
+			return registeredProviders;
+		}
+		return providersByRawType.computeIfAbsent(targetType.getRawType(), this::providersFor);
+	}
+
+	private List<ArbitraryProvider> providersFor(Class<?> rawType) {
+		Class<?> boxedRawType = JqwikReflectionSupport.boxedType(rawType);
+		List<ArbitraryProvider> candidates = new ArrayList<>();
+		for (int i = 0; i < registeredProviders.size(); i++) {
+			Set<Class<?>> types = providedTypes.get(i);
+			if (types.isEmpty() || types.stream().anyMatch(boxedRawType::isAssignableFrom)) {
+				candidates.add(registeredProviders.get(i));
+			}
+		}
+		return candidates;
+	}
+
+	private static Set<Class<?>> boxed(Set<Class<?>> types) {
+		Set<Class<?>> boxedTypes = new LinkedHashSet<>();
+		for (Class<?> type : types) {
+			boxedTypes.add(JqwikReflectionSupport.boxedType(type));
+		}
+		return boxedTypes;
+	}
 }
@@ -0,0 +1,114 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Stands in for a generated shrinkable and remembers how the whole sample of its try has been generated.
+ * With lazy shrinkables only the value is kept and the real shrinkables of a try are recreated on demand
+ * - usually only when a falsified sample is about to be shrunk - by generating all parameters of the try once more.
+ */
+public class ReplayableShrinkable implements Shrinkable<Object> {
+
+	static List<Shrinkable<Object>> forGeneration(SampleGeneration generation) {
+		List<Object> values = generation.values();
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(values.size());
+		for (int i = 0; i < values.size(); i++) {
+			shrinkables.add(new ReplayableShrinkable(values.get(i), i, generation));
+		}
+		return shrinkables;
+	}
+
+	/**
+	 * Replace all replayable shrinkables by the real ones, which are recreated if necessary.
+	 */
+	public static List<Shrinkable<Object>> unwrap(List<Shrinkable<Object>> shrinkables) {
+		return shrinkables.stream()
+						  .map(shrinkable -> shrinkable instanceof ReplayableShrinkable ? ((ReplayableShrinkable) shrinkable).materialize() : shrinkable)
+						  .collect(Collectors.toList());
+	}
+
+	/**
+	 * Provides the generation of a sample as choice sequence if choice sequence shrinking is switched on
+	 * and the generation can be repeated.
+	 * Parameters that have not been generated - e.g. resolved parameters - are kept as they are.
+	 */
+	public static Optional<ReplayableGeneration> replayableGeneration(List<Shrinkable<Object>> sample) {
+		Optional<SampleGeneration> optionalGeneration =
+			sample.stream()
+				  .filter(shrinkable -> shrinkable instanceof ReplayableShrinkable)
+				  .map(shrinkable -> ((ReplayableShrinkable) shrinkable).generation)
+				  .findFirst();
+		if (!optionalGeneration.isPresent() || !optionalGeneration.get().canShrinkChoices()) {
+			return Optional.empty();
+		}
+		SampleGeneration generation = optionalGeneration.get();
+		List<Shrinkable<Object>> unwrappedSample = unwrap(sample);
+		return generation.recordChoices().map(choices -> new ReplayableGeneration() {
+			@Override
+			public long[] choices() {
+				return choices;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> generate(Random random) {
+				List<Shrinkable<Object>> generated = generation.generate(random);
+				List<Shrinkable<Object>> newSample = new ArrayList<>(unwrappedSample);
+				for (int i = 0; i < sample.size(); i++) {
+					Shrinkable<Object> shrinkable = sample.get(i);
+					if (shrinkable instanceof ReplayableShrinkable) {
+						newSample.set(i, generated.get(((ReplayableShrinkable) shrinkable).index));
+					}
+				}
+				return newSample;
+			}
+		});
+	}
+
+	private final Object value;
+	private final int index;
+	private final SampleGeneration generation;
+
+	private ReplayableShrinkable(Object value, int index, SampleGeneration generation) {
+		this.value = value;
+		this.index = index;
+		this.generation = generation;
+	}
+
+	Shrinkable<Object> materialize() {
+		return generation.shrinkables().get(index);
+	}
+
+	@Override
+	public Object value() {
+		return value;
+	}
+
+	@Override
+	public Stream<Shrinkable<Object>> shrink() {
+		return materialize().shrink();
+	}
+
+	@Override
+	public Optional<Shrinkable<Object>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return materialize().grow(before, after);
+	}
+
+	@Override
+	public Stream<Shrinkable<Object>> grow() {
+		return materialize().grow();
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return materialize().distance();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Replayable(%s)", value);
+	}
+}
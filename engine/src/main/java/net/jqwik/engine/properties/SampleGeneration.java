@@ -0,0 +1,90 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.logging.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Describes how the generated parameters of a single try can be generated once more:
+ * Either from the same random state to recreate the try's shrinkables,
+ * or from a recorded sequence of random choices to shrink the sample through its choices.
+ */
+class SampleGeneration {
+
+	private static final Logger LOG = Logger.getLogger(SampleGeneration.class.getName());
+
+	private final Function<Random, List<Shrinkable<Object>>> generator;
+	private final SourceOfRandomness.RandomState stateBefore;
+	private final SourceOfRandomness.RandomState stateAfter;
+	private final List<Object> values;
+	private final boolean canShrinkChoices;
+
+	private List<Shrinkable<Object>> shrinkables;
+
+	SampleGeneration(
+		Function<Random, List<Shrinkable<Object>>> generator,
+		SourceOfRandomness.RandomState stateBefore,
+		SourceOfRandomness.RandomState stateAfter,
+		List<Shrinkable<Object>> generatedShrinkables,
+		boolean keepShrinkables,
+		boolean canShrinkChoices
+	) {
+		this.generator = generator;
+		this.stateBefore = stateBefore;
+		this.stateAfter = stateAfter;
+		this.values = generatedShrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+		this.shrinkables = keepShrinkables ? generatedShrinkables : null;
+		this.canShrinkChoices = canShrinkChoices;
+	}
+
+	List<Object> values() {
+		return values;
+	}
+
+	boolean canShrinkChoices() {
+		return canShrinkChoices;
+	}
+
+	synchronized List<Shrinkable<Object>> shrinkables() {
+		if (shrinkables == null) {
+			shrinkables = regenerate();
+		}
+		return shrinkables;
+	}
+
+	private List<Shrinkable<Object>> regenerate() {
+		Random replayRandom = stateBefore.newRandom();
+		List<Shrinkable<Object>> regenerated = generator.apply(replayRandom);
+		// Generators that depend on state outside of the random source cannot be replayed
+		if (SourceOfRandomness.stateOf(replayRandom).equals(Optional.of(stateAfter))) {
+			return regenerated;
+		}
+		LOG.log(Level.WARNING, () -> String.format("Generation of sample %s could not be repeated. Sample will not be shrunk.", values));
+		return values.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+	}
+
+	/**
+	 * Generate the sample once more and record all random choices on the way.
+	 *
+	 * @return empty if the generation does not end in the same random state as the original one
+	 */
+	Optional<long[]> recordChoices() {
+		Random source = stateBefore.newRandom();
+		ChoiceSequenceRandom recordingRandom = ChoiceSequenceRandom.recording(source);
+		generator.apply(recordingRandom);
+		if (!SourceOfRandomness.stateOf(source).equals(Optional.of(stateAfter))) {
+			LOG.log(Level.WARNING, () -> String.format("Random choices of sample %s could not be recorded. Choices will not be shrunk.", values));
+			return Optional.empty();
+		}
+		return Optional.of(recordingRandom.choices());
+	}
+
+	List<Shrinkable<Object>> generate(Random random) {
+		return generator.apply(random);
+	}
+}
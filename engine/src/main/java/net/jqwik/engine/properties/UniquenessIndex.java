@@ -0,0 +1,67 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Counts the features of a container's values per feature extractor
+ * so that the uniqueness of another value can be checked without looking at all values.
+ */
+public class UniquenessIndex<T> {
+
+	public static <T> UniquenessIndex<T> of(Collection<FeatureExtractor<T>> extractors, Collection<T> values) {
+		UniquenessIndex<T> index = new UniquenessIndex<>(extractors);
+		for (T value : values) {
+			index.add(value);
+		}
+		return index;
+	}
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Map<Object, Integer>> featureCounts = new ArrayList<>();
+
+	public UniquenessIndex(Collection<FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		for (int i = 0; i < this.extractors.size(); i++) {
+			featureCounts.add(new HashMap<>());
+		}
+	}
+
+	/**
+	 * @return true if no value in this index has any of the features of {@code value}
+	 */
+	public boolean isUnique(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			if (featureCounts.get(i).containsKey(feature)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if {@code value} would be unique after replacing {@code replaced} with it
+	 */
+	public boolean isUniqueReplacing(T replaced, T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object feature = extractor.applySafe(value);
+			int count = featureCounts.get(i).getOrDefault(feature, 0);
+			if (count == 0) {
+				continue;
+			}
+			if (count == 1 && Objects.equals(feature, extractor.applySafe(replaced))) {
+				continue;
+			}
+			return false;
+		}
+		return true;
+	}
+
+	public void add(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			featureCounts.get(i).merge(feature, 1, Integer::sum);
+		}
+	}
+}
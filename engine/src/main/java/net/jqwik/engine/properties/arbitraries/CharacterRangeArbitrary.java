@@ -10,7 +10,7 @@ import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
-public class CharacterRangeArbitrary implements Arbitrary<Character> {
+public class CharacterRangeArbitrary implements Arbitrary<Character>, ShareableGenerators {
 	private final char min;
 	private final char max;
 
@@ -43,12 +43,25 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
 		long maxCount = max + 1 - min;
 		return ExhaustiveGenerators
-					   .fromIterable(() -> IntStream.range(min, max + 1).iterator(), maxCount, maxNumberOfSamples)
-					   .map(optionalGenerator -> optionalGenerator.map(anInt -> (char) (int) anInt));
+					   .fromIndex(index -> (char) (min + index), maxCount, maxNumberOfSamples);
 	}
 
 	@Override
 	public EdgeCases<Character> edgeCases(int maxEdgeCases) {
 		return EdgeCasesSupport.fromShrinkables(listOfEdgeCases(maxEdgeCases));
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		CharacterRangeArbitrary that = (CharacterRangeArbitrary) o;
+		return min == that.min && max == that.max;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(min, max);
+	}
 }
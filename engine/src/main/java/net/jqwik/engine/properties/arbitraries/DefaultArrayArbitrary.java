@@ -3,6 +3,7 @@ package net.jqwik.engine.properties.arbitraries;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -76,6 +77,21 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 
 	@SuppressWarnings("unchecked")
 	private A toArray(List<T> from) {
+		// Most common primitive arrays are filled directly instead of through reflection
+		if (componentClass == int.class) {
+			int[] array = new int[from.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = (Integer) from.get(i);
+			}
+			return (A) array;
+		}
+		if (componentClass == long.class) {
+			long[] array = new long[from.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = (Long) from.get(i);
+			}
+			return (A) array;
+		}
 		A array = (A) Array.newInstance(componentClass, from.size());
 		for (int i = 0; i < from.size(); i++) {
 			Array.set(array, i, from.get(i));
@@ -86,6 +102,11 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 	@SuppressWarnings("unchecked")
 	@Override
 	protected Iterable<T> toIterable(A array) {
+		if (componentClass.isPrimitive()) {
+			return () -> IntStream.range(0, Array.getLength(array))
+								  .mapToObj(i -> (T) Array.get(array, i))
+								  .iterator();
+		}
 		return () -> Arrays.stream((T[]) array).iterator();
 	}
 
@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigIntegerArbitrary {
+public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigIntegerArbitrary, ShareableGenerators {
 
 	public static final BigInteger DEFAULT_MIN = BigInteger.valueOf(Long.MIN_VALUE);
 	public static final BigInteger DEFAULT_MAX = BigInteger.valueOf(Long.MAX_VALUE);
@@ -67,4 +67,36 @@ public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigInt
 		clone.generatingArbitrary.shrinkingTarget = target;
 		return clone;
 	}
+
+	@Override
+	public BigIntegerArbitrary multipleOf(BigInteger multipleOf) {
+		DefaultBigIntegerArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(multipleOf);
+		return clone;
+	}
+
+	// Configuration methods change the generating arbitrary of the clone which must therefore not be shared
+	@Override
+	protected <A extends Arbitrary<?>> A typedClone() {
+		DefaultBigIntegerArbitrary clone = super.typedClone();
+		clone.generatingArbitrary = generatingArbitrary.typedClone();
+		@SuppressWarnings("unchecked")
+		A typedClone = (A) clone;
+		return typedClone;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultBigIntegerArbitrary that = (DefaultBigIntegerArbitrary) o;
+		return generatingArbitrary.equals(that.generatingArbitrary);
+	}
+
+	@Override
+	public int hashCode() {
+		return generatingArbitrary.hashCode();
+	}
+
 }
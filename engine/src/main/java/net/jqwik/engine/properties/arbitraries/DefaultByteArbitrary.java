@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary {
+public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary, ShareableGenerators {
 
 	private static final byte DEFAULT_MIN = Byte.MIN_VALUE;
 	private static final byte DEFAULT_MAX = Byte.MAX_VALUE;
@@ -73,4 +73,35 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 		return clone;
 	}
 
+	@Override
+	public ByteArbitrary multipleOf(int multipleOf) {
+		DefaultByteArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(BigInteger.valueOf(multipleOf));
+		return clone;
+	}
+
+	// Configuration methods change the generating arbitrary of the clone which must therefore not be shared
+	@Override
+	protected <A extends Arbitrary<?>> A typedClone() {
+		DefaultByteArbitrary clone = super.typedClone();
+		clone.generatingArbitrary = generatingArbitrary.typedClone();
+		@SuppressWarnings("unchecked")
+		A typedClone = (A) clone;
+		return typedClone;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultByteArbitrary that = (DefaultByteArbitrary) o;
+		return generatingArbitrary.equals(that.generatingArbitrary);
+	}
+
+	@Override
+	public int hashCode() {
+		return generatingArbitrary.hashCode();
+	}
+
 }
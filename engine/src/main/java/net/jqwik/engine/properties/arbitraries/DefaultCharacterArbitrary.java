@@ -6,7 +6,7 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultCharacterArbitrary extends TypedCloneable implements CharacterArbitrary {
+public class DefaultCharacterArbitrary extends TypedCloneable implements CharacterArbitrary, ShareableGenerators {
 
 	static final char[] WHITESPACE_CHARS;
 
@@ -38,7 +38,8 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 		return codepoint >= 0xe000 && codepoint <= 0xf8ff;
 	}
 
-	private List<Tuple.Tuple2<Integer, Arbitrary<Character>>> partsWithSize = new ArrayList<>();
+	private List<Part> parts = new ArrayList<>();
+	private NavigableSet<Character> excludedChars = new TreeSet<>();
 
 	public DefaultCharacterArbitrary() {
 	}
@@ -49,22 +50,34 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 	}
 
 	private Arbitrary<Character> arbitrary() {
-		if (partsWithSize.isEmpty()) {
+		if (parts.isEmpty()) {
 			return defaultArbitrary();
 		}
-		if (partsWithSize.size() == 1) {
-			return partsWithSize.get(0).get2();
-		}
-
-		return Arbitraries.frequencyOf(partsWithSize);
+		return combine(parts);
 	}
 
 	private Arbitrary<Character> defaultArbitrary() {
-		return rangeArbitrary(Character.MIN_VALUE, Character.MAX_VALUE)
+		return combine(Collections.singletonList(new RangePart(Character.MIN_VALUE, Character.MAX_VALUE)))
 				   .filter(c -> !DefaultCharacterArbitrary.isNoncharacter(c)
 									&& !DefaultCharacterArbitrary.isPrivateUseCharacter(c));
 	}
 
+	private Arbitrary<Character> combine(List<Part> parts) {
+		List<Tuple.Tuple2<Integer, Arbitrary<Character>>> partsWithSize = new ArrayList<>();
+		for (Part part : parts) {
+			part.addArbitraries(partsWithSize, excludedChars);
+		}
+		if (partsWithSize.isEmpty()) {
+			String message = String.format("All allowed chars are excluded by %s", excludedChars);
+			throw new IllegalArgumentException(message);
+		}
+		if (partsWithSize.size() == 1) {
+			return partsWithSize.get(0).get2();
+		}
+
+		return Arbitraries.frequencyOf(partsWithSize);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
 		return arbitrary().exhaustive(maxNumberOfSamples);
@@ -77,12 +90,12 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 
 	@Override
 	public CharacterArbitrary range(char min, char max) {
-		return cloneWith(rangeArbitrary(min, max), max - min + 1);
+		return cloneWith(new RangePart(min, max));
 	}
 
 	@Override
 	public CharacterArbitrary with(char... allowedChars) {
-		return cloneWith(charsArbitrary(allowedChars), allowedChars.length);
+		return cloneWith(new CharsPart(allowedChars));
 	}
 
 	@Override
@@ -91,10 +104,6 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 		return with(chars);
 	}
 
-	private Arbitrary<Character> charsArbitrary(char[] allowedChars) {
-		return Arbitraries.of(allowedChars);
-	}
-
 	@Override
 	public CharacterArbitrary all() {
 		return new DefaultCharacterArbitrary();
@@ -120,15 +129,118 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 		return this.range('A', 'Z').range('a', 'z');
 	}
 
-	private CharacterArbitrary cloneWith(Arbitrary<Character> part, int size) {
+	@Override
+	public CharacterArbitrary except(char... excludedChars) {
 		DefaultCharacterArbitrary clone = super.typedClone();
-		clone.partsWithSize = new ArrayList<>(partsWithSize);
-		clone.partsWithSize.add(Tuple.of(size, part));
+		clone.excludedChars = new TreeSet<>(this.excludedChars);
+		for (char excludedChar : excludedChars) {
+			clone.excludedChars.add(excludedChar);
+		}
 		return clone;
 	}
 
-	private Arbitrary<Character> rangeArbitrary(char min, char max) {
-		return new CharacterRangeArbitrary(min, max);
+	private CharacterArbitrary cloneWith(Part part) {
+		DefaultCharacterArbitrary clone = super.typedClone();
+		clone.parts = new ArrayList<>(parts);
+		clone.parts.add(part);
+		return clone;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultCharacterArbitrary that = (DefaultCharacterArbitrary) o;
+		return parts.equals(that.parts) && excludedChars.equals(that.excludedChars);
+	}
+
+	@Override
+	public int hashCode() {
+		return parts.hashCode();
+	}
+
+	private interface Part {
+		void addArbitraries(List<Tuple.Tuple2<Integer, Arbitrary<Character>>> partsWithSize, NavigableSet<Character> excludedChars);
+	}
+
+	private static class RangePart implements Part {
+		private final char min;
+		private final char max;
+
+		private RangePart(char min, char max) {
+			this.min = min;
+			this.max = max;
+		}
+
+		// Excluded chars split the range into smaller ranges so that no generated char must be filtered out
+		@Override
+		public void addArbitraries(List<Tuple.Tuple2<Integer, Arbitrary<Character>>> partsWithSize, NavigableSet<Character> excludedChars) {
+			if (min > max) {
+				partsWithSize.add(Tuple.of(max - min + 1, new CharacterRangeArbitrary(min, max)));
+				return;
+			}
+			int from = min;
+			for (char excluded : excludedChars.subSet(min, true, max, true)) {
+				if (excluded > from) {
+					partsWithSize.add(Tuple.of(excluded - from, new CharacterRangeArbitrary((char) from, (char) (excluded - 1))));
+				}
+				from = excluded + 1;
+			}
+			if (from <= max) {
+				partsWithSize.add(Tuple.of(max - from + 1, new CharacterRangeArbitrary((char) from, max)));
+			}
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			RangePart rangePart = (RangePart) o;
+			return min == rangePart.min && max == rangePart.max;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(min, max);
+		}
+	}
+
+	private static class CharsPart implements Part {
+		private final char[] chars;
+
+		private CharsPart(char[] chars) {
+			this.chars = chars;
+		}
+
+		@Override
+		public void addArbitraries(List<Tuple.Tuple2<Integer, Arbitrary<Character>>> partsWithSize, NavigableSet<Character> excludedChars) {
+			if (excludedChars.isEmpty()) {
+				partsWithSize.add(Tuple.of(chars.length, Arbitraries.of(chars)));
+				return;
+			}
+			StringBuilder allowed = new StringBuilder();
+			for (char c : chars) {
+				if (!excludedChars.contains(c)) {
+					allowed.append(c);
+				}
+			}
+			if (allowed.length() > 0) {
+				partsWithSize.add(Tuple.of(allowed.length(), Arbitraries.of(allowed.toString().toCharArray())));
+			}
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			return Arrays.equals(chars, ((CharsPart) o).chars);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(chars);
+		}
 	}
 
 }
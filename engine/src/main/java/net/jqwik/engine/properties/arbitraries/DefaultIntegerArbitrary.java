@@ -6,8 +6,9 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary {
+public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary, ShareableGenerators {
 
 	private static final int DEFAULT_MIN = Integer.MIN_VALUE;
 	private static final int DEFAULT_MAX = Integer.MAX_VALUE;
@@ -20,7 +21,9 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		return generatingArbitrary.intGenerator()
+								  .map(IntGenerator::asGenerator)
+								  .orElseGet(() -> generatingArbitrary.generator(genSize).map(BigInteger::intValueExact));
 	}
 
 	@Override
@@ -73,4 +76,35 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 		return clone;
 	}
 
+	@Override
+	public IntegerArbitrary multipleOf(int multipleOf) {
+		DefaultIntegerArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(BigInteger.valueOf(multipleOf));
+		return clone;
+	}
+
+	// Configuration methods change the generating arbitrary of the clone which must therefore not be shared
+	@Override
+	protected <A extends Arbitrary<?>> A typedClone() {
+		DefaultIntegerArbitrary clone = super.typedClone();
+		clone.generatingArbitrary = generatingArbitrary.typedClone();
+		@SuppressWarnings("unchecked")
+		A typedClone = (A) clone;
+		return typedClone;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultIntegerArbitrary that = (DefaultIntegerArbitrary) o;
+		return generatingArbitrary.equals(that.generatingArbitrary);
+	}
+
+	@Override
+	public int hashCode() {
+		return generatingArbitrary.hashCode();
+	}
+
 }
@@ -6,8 +6,9 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary {
+public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary, ShareableGenerators {
 
 	private static final long DEFAULT_MIN = Long.MIN_VALUE;
 	private static final long DEFAULT_MAX = Long.MAX_VALUE;
@@ -20,7 +21,9 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		return generatingArbitrary.longGenerator()
+								  .map(LongGenerator::asGenerator)
+								  .orElseGet(() -> generatingArbitrary.generator(genSize).map(BigInteger::longValueExact));
 	}
 
 	@Override
@@ -73,4 +76,35 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 		return clone;
 	}
 
+	@Override
+	public LongArbitrary multipleOf(long multipleOf) {
+		DefaultLongArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(BigInteger.valueOf(multipleOf));
+		return clone;
+	}
+
+	// Configuration methods change the generating arbitrary of the clone which must therefore not be shared
+	@Override
+	protected <A extends Arbitrary<?>> A typedClone() {
+		DefaultLongArbitrary clone = super.typedClone();
+		clone.generatingArbitrary = generatingArbitrary.typedClone();
+		@SuppressWarnings("unchecked")
+		A typedClone = (A) clone;
+		return typedClone;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultLongArbitrary that = (DefaultLongArbitrary) o;
+		return generatingArbitrary.equals(that.generatingArbitrary);
+	}
+
+	@Override
+	public int hashCode() {
+		return generatingArbitrary.hashCode();
+	}
+
 }
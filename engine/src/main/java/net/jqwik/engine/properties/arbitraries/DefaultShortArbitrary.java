@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary {
+public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary, ShareableGenerators {
 
 	private static final short DEFAULT_MIN = Short.MIN_VALUE;
 	private static final short DEFAULT_MAX = Short.MAX_VALUE;
@@ -73,4 +73,35 @@ public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitr
 		return clone;
 	}
 
+	@Override
+	public ShortArbitrary multipleOf(short multipleOf) {
+		DefaultShortArbitrary clone = typedClone();
+		clone.generatingArbitrary.multipleOf(BigInteger.valueOf(multipleOf));
+		return clone;
+	}
+
+	// Configuration methods change the generating arbitrary of the clone which must therefore not be shared
+	@Override
+	protected <A extends Arbitrary<?>> A typedClone() {
+		DefaultShortArbitrary clone = super.typedClone();
+		clone.generatingArbitrary = generatingArbitrary.typedClone();
+		@SuppressWarnings("unchecked")
+		A typedClone = (A) clone;
+		return typedClone;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultShortArbitrary that = (DefaultShortArbitrary) o;
+		return generatingArbitrary.equals(that.generatingArbitrary);
+	}
+
+	@Override
+	public int hashCode() {
+		return generatingArbitrary.hashCode();
+	}
+
 }
@@ -10,7 +10,7 @@ import net.jqwik.engine.properties.shrinking.*;
 
 import static java.util.Arrays.*;
 
-public class DefaultStringArbitrary extends TypedCloneable implements StringArbitrary {
+public class DefaultStringArbitrary extends TypedCloneable implements StringArbitrary, ShareableGenerators {
 
 	private CharacterArbitrary characterArbitrary = new DefaultCharacterArbitrary();
 
@@ -26,6 +26,12 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		return RandomGenerators.strings(randomCharacterGenerator(), minLength, maxLength, maxUniqueChars, genSize, lengthDistribution);
 	}
 
+	@Override
+	public boolean generatorsAreShareable() {
+		// Injecting duplicates keeps the previously generated chars of the current try
+		return repeatChars == 0.0;
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<String>> exhaustive(long maxNumberOfSamples) {
 		return ExhaustiveGenerators.strings(
@@ -203,11 +209,33 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 	}
 
 	private Arbitrary<Character> effectiveCharacterArbitrary() {
-		Arbitrary<Character> characterArbitrary = this.characterArbitrary;
-		if (!excludedChars.isEmpty()) {
-			characterArbitrary = characterArbitrary.filter(c -> !excludedChars.contains(c));
+		if (excludedChars.isEmpty()) {
+			return characterArbitrary;
 		}
-		return characterArbitrary;
+		char[] charsToExclude = new char[excludedChars.size()];
+		int index = 0;
+		for (Character excludedChar : excludedChars) {
+			charsToExclude[index++] = excludedChar;
+		}
+		return characterArbitrary.except(charsToExclude);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultStringArbitrary that = (DefaultStringArbitrary) o;
+		if (minLength != that.minLength) return false;
+		if (maxLength != that.maxLength) return false;
+		if (Double.compare(that.repeatChars, repeatChars) != 0) return false;
+		if (!characterArbitrary.equals(that.characterArbitrary)) return false;
+		if (!excludedChars.equals(that.excludedChars)) return false;
+		return Objects.equals(lengthDistribution, that.lengthDistribution);
 	}
 
+	@Override
+	public int hashCode() {
+		return Objects.hash(characterArbitrary, minLength, maxLength, excludedChars, lengthDistribution, repeatChars);
+	}
 }
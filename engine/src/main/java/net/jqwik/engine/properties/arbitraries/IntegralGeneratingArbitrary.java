@@ -13,11 +13,12 @@ import net.jqwik.engine.properties.shrinking.*;
 
 import static java.math.BigInteger.*;
 
-class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<BigInteger> {
+class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<BigInteger>, ShareableGenerators {
 
 	BigInteger min;
 	BigInteger max;
 	BigInteger shrinkingTarget;
+	BigInteger multipleOf = ONE;
 	RandomDistribution distribution = RandomDistribution.biased();
 
 	private Consumer<EdgeCases.Config<BigInteger>> edgeCasesConfigurator = EdgeCases.Config.noConfig();
@@ -28,25 +29,88 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		this.shrinkingTarget = null;
 	}
 
+	void multipleOf(BigInteger multipleOf) {
+		if (multipleOf.signum() <= 0) {
+			String message = String.format("multipleOf [%s] must be greater than 0", multipleOf);
+			throw new IllegalArgumentException(message);
+		}
+		this.multipleOf = multipleOf;
+	}
+
 	@Override
 	public RandomGenerator<BigInteger> generator(int genSize) {
+		if (!multipleOf.equals(ONE)) {
+			return quotients().generator(genSize).map(this::multiply);
+		}
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	Optional<IntGenerator> intGenerator() {
+		if (!multipleOf.equals(ONE)) {
+			return Optional.empty();
+		}
+		return RandomIntegralGenerators.ints(1000, min, max, shrinkingTarget(), distribution);
+	}
+
+	Optional<LongGenerator> longGenerator() {
+		if (!multipleOf.equals(ONE)) {
+			return Optional.empty();
+		}
+		return RandomIntegralGenerators.longs(1000, min, max, shrinkingTarget(), distribution);
+	}
+
+	/**
+	 * Multiples are generated, shrunk and enumerated as quotients {@code value / multipleOf}
+	 * so that no generated value must be thrown away.
+	 */
+	private IntegralGeneratingArbitrary quotients() {
+		BigInteger[] minQuotient = min.divideAndRemainder(multipleOf);
+		BigInteger quotientMin = minQuotient[1].signum() > 0 ? minQuotient[0].add(ONE) : minQuotient[0];
+		BigInteger[] maxQuotient = max.divideAndRemainder(multipleOf);
+		BigInteger quotientMax = maxQuotient[1].signum() < 0 ? maxQuotient[0].subtract(ONE) : maxQuotient[0];
+		if (quotientMin.compareTo(quotientMax) > 0) {
+			String message = String.format("There is no multiple of %s between %s and %s", multipleOf, min, max);
+			throw new IllegalArgumentException(message);
+		}
+
+		IntegralGeneratingArbitrary quotients = new IntegralGeneratingArbitrary(quotientMin, quotientMax);
+		quotients.distribution = distribution;
+		if (shrinkingTarget != null) {
+			BigInteger targetQuotient = shrinkingTarget.divide(multipleOf);
+			quotients.shrinkingTarget = targetQuotient.max(quotientMin).min(quotientMax);
+		}
+		quotients.edgeCasesConfigurator = new MappedEdgeCasesConsumer<>(
+			edgeCasesConfigurator,
+			this::multiply,
+			value -> value.divide(multipleOf)
+		);
+		return quotients;
+	}
+
+	private BigInteger multiply(BigInteger quotient) {
+		return quotient.multiply(multipleOf);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
+		if (!multipleOf.equals(ONE)) {
+			return quotients().exhaustive(maxNumberOfSamples).map(generator -> generator.map(this::multiply));
+		}
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
 
 		// Necessary because maxCount could be larger than Long.MAX_VALUE
 		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
 			return Optional.empty();
 		} else {
-			return ExhaustiveGenerators.fromIterable(RangeIterator::new, maxCount.longValueExact(), maxNumberOfSamples);
+			return ExhaustiveGenerators.fromIndex(index -> min.add(valueOf(index)), maxCount.longValueExact(), maxNumberOfSamples);
 		}
 	}
 
 	@Override
 	public EdgeCases<BigInteger> edgeCases(int maxEdgeCases) {
+		if (!multipleOf.equals(ONE)) {
+			return EdgeCasesSupport.map(quotients().edgeCases(maxEdgeCases), this::multiply);
+		}
 		Range<BigInteger> range = Range.of(min, max);
 		BigInteger shrinkingTarget = shrinkingTarget();
 		Function<Integer, EdgeCases<BigInteger>> edgeCasesCreator = m -> {
@@ -96,24 +160,23 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
-	class RangeIterator implements Iterator<BigInteger> {
-
-		BigInteger current = min;
-
-		@Override
-		public boolean hasNext() {
-			return current.compareTo(max) <= 0;
-		}
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		IntegralGeneratingArbitrary that = (IntegralGeneratingArbitrary) o;
+		if (!min.equals(that.min)) return false;
+		if (!max.equals(that.max)) return false;
+		if (!Objects.equals(shrinkingTarget, that.shrinkingTarget)) return false;
+		if (!multipleOf.equals(that.multipleOf)) return false;
+		if (!distribution.equals(that.distribution)) return false;
+		return edgeCasesConfigurator.equals(that.edgeCasesConfigurator);
+	}
 
-		@Override
-		public BigInteger next() {
-			if (!hasNext()) {
-				throw new NoSuchElementException();
-			}
-			BigInteger next = current;
-			current = current.add(BigInteger.ONE);
-			return next;
-		}
+	@Override
+	public int hashCode() {
+		return Objects.hash(min, max, shrinkingTarget, multipleOf, distribution);
 	}
 
 }
@@ -0,0 +1,16 @@
+package net.jqwik.engine.properties.arbitraries;
+
+/**
+ * Marks arbitraries that implement structural equality and whose generators do not keep any state.
+ * Generators of these arbitraries are memoized across all properties of a test run.
+ * Generators of all other arbitraries are only memoized within a single property.
+ */
+public interface ShareableGenerators {
+
+	/**
+	 * Override if only some configurations of an arbitrary create generators without state.
+	 */
+	default boolean generatorsAreShareable() {
+		return true;
+	}
+}
@@ -12,6 +12,8 @@ class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
 	private final List<Arbitrary<Object>> arbitraries;
 	private final Function<List<Object>, R> combinator;
 
+	private List<ExhaustiveGenerator<Object>> generators = null;
+
 	static Optional<Long> calculateMaxCount(List<Arbitrary<Object>> arbitraries, long maxNumberOfSamples) {
 		long product = 1;
 		for (Arbitrary<Object> arbitrary : arbitraries) {
@@ -38,6 +40,34 @@ class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
 		return maxCount;
 	}
 
+	@Override
+	public boolean isRandomAccess() {
+		return generators().stream().allMatch(ExhaustiveGenerator::isRandomAccess);
+	}
+
+	/**
+	 * The last value changes fastest, which is the same order as in {@linkplain #iterator()}
+	 */
+	@Override
+	public R get(long index) {
+		List<ExhaustiveGenerator<Object>> generators = generators();
+		List<Object> values = new ArrayList<>(Collections.nCopies(generators.size(), null));
+		long rest = index;
+		for (int i = values.size() - 1; i >= 0; i--) {
+			ExhaustiveGenerator<Object> generator = generators.get(i);
+			values.set(i, generator.get(rest % generator.maxCount()));
+			rest /= generator.maxCount();
+		}
+		return combinator.apply(values);
+	}
+
+	private synchronized List<ExhaustiveGenerator<Object>> generators() {
+		if (generators == null) {
+			generators = arbitraries.stream().map(a -> a.exhaustive().get()).collect(Collectors.toList());
+		}
+		return generators;
+	}
+
 	@Override
 	public Iterator<R> iterator() {
 		List<Iterable<Object>> iterables = arbitraries
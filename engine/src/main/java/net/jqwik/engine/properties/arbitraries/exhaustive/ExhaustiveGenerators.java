@@ -16,7 +16,7 @@ public class ExhaustiveGenerators {
 	}
 
 	public static <T> Optional<ExhaustiveGenerator<T>> choose(List<T> values, long maxNumberOfSamples) {
-		return fromIterable(values, values.size(), maxNumberOfSamples);
+		return fromIndex(index -> values.get((int) index), values.size(), maxNumberOfSamples);
 	}
 
 	public static Optional<ExhaustiveGenerator<Character>> choose(char[] characters, long maxNumberOfSamples) {
@@ -34,6 +34,16 @@ public class ExhaustiveGenerators {
 		return Optional.of(new IterableBasedExhaustiveGenerator<>(iterator, maxCount));
 	}
 
+	/**
+	 * Create a generator that can decode each value directly from its index
+	 */
+	public static <T> Optional<ExhaustiveGenerator<T>> fromIndex(LongFunction<T> valueAt, long maxCount, long maxNumberOfSamples) {
+		if (maxCount > maxNumberOfSamples) {
+			return Optional.empty();
+		}
+		return Optional.of(new IndexedExhaustiveGenerator<>(valueAt, maxCount));
+	}
+
 	public static <T> Optional<ExhaustiveGenerator<List<T>>> list(
 			Arbitrary<T> elementArbitrary,
 			int minSize, int maxSize,
@@ -45,6 +55,9 @@ public class ExhaustiveGenerators {
 				maxCount ->
 				{
 					ListExhaustiveGenerator<T> exhaustiveGenerator = new ListExhaustiveGenerator<>(elementArbitrary, maxCount, minSize, maxSize);
+					if (uniquenessExtractors.isEmpty()) {
+						return exhaustiveGenerator;
+					}
 					return exhaustiveGenerator.filter(l -> checkUniquenessOfValues(uniquenessExtractors, l), 10000);
 				}
 		);
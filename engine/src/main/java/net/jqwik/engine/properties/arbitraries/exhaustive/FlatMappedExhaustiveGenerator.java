@@ -12,6 +12,8 @@ public class FlatMappedExhaustiveGenerator<U, T> implements ExhaustiveGenerator<
 	private final long maxCount;
 	private final Function<T, Arbitrary<U>> mapper;
 
+	private List<ExhaustiveGenerator<U>> mappedGenerators = null;
+
 	public static <T, U> Optional<Long> calculateMaxCounts(
 		ExhaustiveGenerator<T> baseGenerator,
 		Function<T, Arbitrary<U>> mapper,
@@ -42,6 +44,32 @@ public class FlatMappedExhaustiveGenerator<U, T> implements ExhaustiveGenerator<
 		return maxCount;
 	}
 
+	@Override
+	public boolean isRandomAccess() {
+		return mappedGenerators().stream().allMatch(ExhaustiveGenerator::isRandomAccess);
+	}
+
+	@Override
+	public U get(long index) {
+		long rest = index;
+		for (ExhaustiveGenerator<U> generator : mappedGenerators()) {
+			if (rest < generator.maxCount()) {
+				return generator.get(rest);
+			}
+			rest -= generator.maxCount();
+		}
+		throw new IndexOutOfBoundsException(String.format("Index [%s] is not between 0 and %s", index, maxCount));
+	}
+
+	private synchronized List<ExhaustiveGenerator<U>> mappedGenerators() {
+		if (mappedGenerators == null) {
+			mappedGenerators = StreamSupport.stream(baseGenerator.spliterator(), false)
+											.map(baseValue -> mapper.apply(baseValue).exhaustive().get())
+											.collect(Collectors.toList());
+		}
+		return mappedGenerators;
+	}
+
 	@Override
 	public Iterator<U> iterator() {
 		List<Iterable<U>> iterators =
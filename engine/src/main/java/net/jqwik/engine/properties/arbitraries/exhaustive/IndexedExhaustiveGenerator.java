@@ -0,0 +1,55 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+class IndexedExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
+
+	private final LongFunction<T> valueAt;
+	private final long maxCount;
+
+	IndexedExhaustiveGenerator(LongFunction<T> valueAt, long maxCount) {
+		this.valueAt = valueAt;
+		this.maxCount = maxCount;
+	}
+
+	@Override
+	public long maxCount() {
+		return maxCount;
+	}
+
+	@Override
+	public boolean isRandomAccess() {
+		return true;
+	}
+
+	@Override
+	public T get(long index) {
+		if (index < 0 || index >= maxCount) {
+			throw new IndexOutOfBoundsException(String.format("Index [%s] is not between 0 and %s", index, maxCount));
+		}
+		return valueAt.apply(index);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private long index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < maxCount;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return valueAt.apply(index++);
+			}
+		};
+	}
+}
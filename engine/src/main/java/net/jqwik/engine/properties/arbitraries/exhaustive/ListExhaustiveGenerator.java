@@ -11,6 +11,8 @@ class ListExhaustiveGenerator<T> implements ExhaustiveGenerator<List<T>> {
 	private final int minSize;
 	private final int maxSize;
 
+	private ExhaustiveGenerator<T> elementGenerator = null;
+
 	static Optional<Long> calculateMaxCount(Arbitrary<?> elementArbitrary, int minSize, int maxSize, long maxNumberOfSamples) {
 		Optional<? extends ExhaustiveGenerator<?>> exhaustiveElement = elementArbitrary.exhaustive(maxNumberOfSamples);
 		if (!exhaustiveElement.isPresent())
@@ -45,4 +47,48 @@ class ListExhaustiveGenerator<T> implements ExhaustiveGenerator<List<T>> {
 	public long maxCount() {
 		return maxCount;
 	}
+
+	@Override
+	public boolean isRandomAccess() {
+		return elementGenerator().isRandomAccess();
+	}
+
+	/**
+	 * Lists are ordered by size first. Within the same size the last element changes fastest,
+	 * which is the same order as in {@linkplain #iterator()}
+	 */
+	@Override
+	public List<T> get(long index) {
+		ExhaustiveGenerator<T> elementGenerator = elementGenerator();
+		long elementCount = elementGenerator.maxCount();
+		long rest = index;
+		for (int size = minSize; size <= maxSize; size++) {
+			long countOfSize = power(elementCount, size);
+			if (rest < countOfSize) {
+				List<T> list = new ArrayList<>(Collections.nCopies(size, null));
+				for (int i = size - 1; i >= 0; i--) {
+					list.set(i, elementGenerator.get(rest % elementCount));
+					rest /= elementCount;
+				}
+				return list;
+			}
+			rest -= countOfSize;
+		}
+		throw new IndexOutOfBoundsException(String.format("Index [%s] is not between 0 and %s", index, maxCount));
+	}
+
+	private static long power(long base, int exponent) {
+		long result = 1;
+		for (int i = 0; i < exponent; i++) {
+			result *= base;
+		}
+		return result;
+	}
+
+	private synchronized ExhaustiveGenerator<T> elementGenerator() {
+		if (elementGenerator == null) {
+			elementGenerator = elementArbitrary.exhaustive().get();
+		}
+		return elementGenerator;
+	}
 }
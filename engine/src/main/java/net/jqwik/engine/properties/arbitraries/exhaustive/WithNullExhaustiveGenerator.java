@@ -16,6 +16,16 @@ public class WithNullExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
 		return base.maxCount() + 1;
 	}
 
+	@Override
+	public boolean isRandomAccess() {
+		return base.isRandomAccess();
+	}
+
+	@Override
+	public T get(long index) {
+		return index == 0 ? null : base.get(index - 1);
+	}
+
 	@Override
 	public Iterator<T> iterator() {
 		return new Iterator<T>() {
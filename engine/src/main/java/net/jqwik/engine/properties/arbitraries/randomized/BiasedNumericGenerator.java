@@ -9,12 +9,18 @@ import net.jqwik.engine.properties.*;
 
 class BiasedNumericGenerator implements RandomNumericGenerator {
 
+	private final List<RandomNumericGenerator> partitions;
+	private final boolean isPartitioned;
 	private final RandomNumericGenerator partitionedGenerator;
 
 	BiasedNumericGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
 		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(genSize, min, max, center);
 		Range<BigInteger> range = Range.of(min, max);
-		partitionedGenerator = partitionedGenerator(range, partitionPoints);
+		isPartitioned = !partitionPoints.isEmpty();
+		partitions = isPartitioned
+						 ? createPartitions(range, partitionPoints)
+						 : Collections.singletonList(createUniformGenerator(range.min, range.max));
+		partitionedGenerator = partitionedGenerator(partitions);
 	}
 
 	@Override
@@ -22,14 +28,29 @@ class BiasedNumericGenerator implements RandomNumericGenerator {
 		return partitionedGenerator.next(random);
 	}
 
-	private RandomNumericGenerator partitionedGenerator(
-		Range<BigInteger> range,
-		List<BigInteger> partitionPoints
-	) {
-		if (partitionPoints.isEmpty()) {
-			return createUniformGenerator(range.min, range.max);
+	/**
+	 * Only present if all partitions can generate values without creating a BigInteger.
+	 * Randomness is consumed the same way as in {@linkplain #next(Random)}.
+	 */
+	Optional<LongNumericGenerator> longGenerator() {
+		LongNumericGenerator[] longPartitions = new LongNumericGenerator[partitions.size()];
+		for (int i = 0; i < longPartitions.length; i++) {
+			RandomNumericGenerator partition = partitions.get(i);
+			if (!(partition instanceof LongNumericGenerator)) {
+				return Optional.empty();
+			}
+			longPartitions[i] = (LongNumericGenerator) partition;
+		}
+		if (!isPartitioned) {
+			return Optional.of(longPartitions[0]);
+		}
+		return Optional.of(random -> longPartitions[random.nextInt(longPartitions.length)].nextLong(random));
+	}
+
+	private RandomNumericGenerator partitionedGenerator(List<RandomNumericGenerator> generators) {
+		if (!isPartitioned) {
+			return generators.get(0);
 		}
-		List<RandomNumericGenerator> generators = createPartitions(range, partitionPoints);
 		return random -> generators.get(random.nextInt(generators.size())).next(random);
 	}
 
@@ -10,6 +10,17 @@ public class BiasedRandomDistribution implements RandomDistribution {
 		return new BiasedNumericGenerator(genSize, min, max, center);
 	}
 
+	// All instances generate the same distribution
+	@Override
+	public boolean equals(Object o) {
+		return o != null && getClass() == o.getClass();
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
+
 	@Override
 	public String toString() {
 		return "BiasedDistribution";
@@ -20,6 +20,20 @@ public class GaussianRandomDistribution implements RandomDistribution {
 		return new GaussianNumericGenerator(borderSigma, min, max, center);
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		GaussianRandomDistribution that = (GaussianRandomDistribution) o;
+		return Double.compare(that.borderSigma, borderSigma) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Double.hashCode(borderSigma);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("GaussianDistribution(%s)", borderSigma);
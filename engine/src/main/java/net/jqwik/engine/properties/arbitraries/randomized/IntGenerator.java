@@ -0,0 +1,20 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Generates {@code int} values without boxing them.
+ * A shrinkable is only created for values that are actually used as such.
+ */
+public interface IntGenerator {
+
+	int nextInt(Random random);
+
+	Shrinkable<Integer> shrinkable(int value);
+
+	default RandomGenerator<Integer> asGenerator() {
+		return random -> shrinkable(nextInt(random));
+	}
+}
@@ -0,0 +1,20 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Generates {@code long} values without boxing them.
+ * A shrinkable is only created for values that are actually used as such.
+ */
+public interface LongGenerator {
+
+	long nextLong(Random random);
+
+	Shrinkable<Long> shrinkable(long value);
+
+	default RandomGenerator<Long> asGenerator() {
+		return random -> shrinkable(nextLong(random));
+	}
+}
@@ -0,0 +1,21 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.RandomDistribution.*;
+
+/**
+ * A numeric generator for ranges within {@code long} that can produce values without creating a {@linkplain BigInteger}.
+ * {@linkplain #next(Random)} and {@linkplain #nextLong(Random)} must consume the same randomness
+ * so that a seed reproduces the same values on either path.
+ */
+interface LongNumericGenerator extends RandomNumericGenerator {
+
+	long nextLong(Random random);
+
+	@Override
+	default BigInteger next(Random random) {
+		return BigInteger.valueOf(nextLong(random));
+	}
+}
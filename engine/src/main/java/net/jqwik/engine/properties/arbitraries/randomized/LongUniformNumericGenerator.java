@@ -0,0 +1,46 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Generates uniformly distributed values for ranges within {@code long}.
+ * Randomness is consumed exactly like in {@linkplain BigUniformNumericGenerator}
+ * which uses {@code new BigInteger(bits, random)}.
+ */
+class LongUniformNumericGenerator implements LongNumericGenerator {
+
+	private final long min;
+	// Unsigned difference between max and min
+	private final long range;
+	private final int numberOfBytes;
+	private final int firstByteMask;
+
+	LongUniformNumericGenerator(BigInteger min, BigInteger max) {
+		this.min = min.longValueExact();
+		BigInteger range = max.subtract(min);
+		this.range = range.longValue();
+		int bits = range.bitLength();
+		this.numberOfBytes = (bits + 7) / 8;
+		int excessBits = 8 * numberOfBytes - bits;
+		this.firstByteMask = (1 << (8 - excessBits)) - 1;
+	}
+
+	@Override
+	public long nextLong(Random random) {
+		if (numberOfBytes == 0) {
+			return min;
+		}
+		byte[] randomBytes = new byte[numberOfBytes];
+		while (true) {
+			random.nextBytes(randomBytes);
+			long rawValue = randomBytes[0] & firstByteMask;
+			for (int i = 1; i < numberOfBytes; i++) {
+				rawValue = (rawValue << 8) | (randomBytes[i] & 0xff);
+			}
+			if (Long.compareUnsigned(rawValue, range) <= 0) {
+				return min + rawValue;
+			}
+		}
+	}
+}
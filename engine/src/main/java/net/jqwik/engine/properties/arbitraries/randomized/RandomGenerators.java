@@ -48,12 +48,11 @@ public class RandomGenerators {
 	public static RandomGenerator<Integer> integers(int min, int max) {
 		BigInteger minBig = BigInteger.valueOf(min);
 		BigInteger maxBig = BigInteger.valueOf(max);
-		return bigIntegers(
-				minBig,
-				maxBig,
-				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
-				RandomDistribution.uniform()
-		).map(BigInteger::intValueExact);
+		BigInteger shrinkingTarget = RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig));
+		return RandomIntegralGenerators
+				   .ints(1000, minBig, maxBig, shrinkingTarget, RandomDistribution.uniform())
+				   .map(IntGenerator::asGenerator)
+				   .orElseGet(() -> bigIntegers(minBig, maxBig, shrinkingTarget, RandomDistribution.uniform()).map(BigInteger::intValueExact));
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
+import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
@@ -37,6 +38,83 @@ public class RandomIntegralGenerators {
 		};
 	}
 
+	/**
+	 * Only present if the distribution can generate values in the given range without creating BigIntegers.
+	 * Generated values are the same as for {@linkplain #bigIntegers(int, BigInteger, BigInteger, BigInteger, RandomDistribution)}.
+	 */
+	public static Optional<IntGenerator> ints(
+		int genSize,
+		BigInteger min,
+		BigInteger max,
+		BigInteger shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		Range<BigInteger> range = Range.of(min, max);
+		return longNumericGenerator(genSize, range, shrinkingTarget, distribution).map(
+			numericGenerator -> new IntGenerator() {
+				@Override
+				public int nextInt(Random random) {
+					return (int) numericGenerator.nextLong(random);
+				}
+
+				@Override
+				public Shrinkable<Integer> shrinkable(int value) {
+					return new LazyIntegralShrinkable<>(value, range, shrinkingTarget, l -> (int) l, BigInteger::intValueExact);
+				}
+			});
+	}
+
+	/**
+	 * Only present if the distribution can generate values in the given range without creating BigIntegers.
+	 * Generated values are the same as for {@linkplain #bigIntegers(int, BigInteger, BigInteger, BigInteger, RandomDistribution)}.
+	 */
+	public static Optional<LongGenerator> longs(
+		int genSize,
+		BigInteger min,
+		BigInteger max,
+		BigInteger shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		Range<BigInteger> range = Range.of(min, max);
+		return longNumericGenerator(genSize, range, shrinkingTarget, distribution).map(
+			numericGenerator -> new LongGenerator() {
+				@Override
+				public long nextLong(Random random) {
+					return numericGenerator.nextLong(random);
+				}
+
+				@Override
+				public Shrinkable<Long> shrinkable(long value) {
+					return new LazyIntegralShrinkable<>(value, range, shrinkingTarget, Long::valueOf, BigInteger::longValueExact);
+				}
+			});
+	}
+
+	private static Optional<LongNumericGenerator> longNumericGenerator(
+		int genSize,
+		Range<BigInteger> range,
+		BigInteger shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		checkTargetInRange(range, shrinkingTarget);
+
+		// Singular ranges are cheap enough on the BigInteger path
+		if (range.isSingular()) {
+			return Optional.empty();
+		}
+
+		RandomNumericGenerator numericGenerator =
+			distribution.createGenerator(genSize, range.min, range.max, shrinkingTarget);
+
+		if (numericGenerator instanceof LongNumericGenerator) {
+			return Optional.of((LongNumericGenerator) numericGenerator);
+		}
+		if (numericGenerator instanceof BiasedNumericGenerator) {
+			return ((BiasedNumericGenerator) numericGenerator).longGenerator();
+		}
+		return Optional.empty();
+	}
+
 	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
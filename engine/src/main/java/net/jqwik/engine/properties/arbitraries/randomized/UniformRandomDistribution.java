@@ -16,6 +16,8 @@ public class UniformRandomDistribution implements RandomDistribution {
 		// Small number generation can be faster
 		if (isWithinIntegerRange(min, max)) {
 			return new SmallUniformNumericGenerator(min, max);
+		} else if (isWithinLongRange(min, max)) {
+			return new LongUniformNumericGenerator(min, max);
 		} else {
 			return new BigUniformNumericGenerator(min, max);
 		}
@@ -27,6 +29,22 @@ public class UniformRandomDistribution implements RandomDistribution {
 			&& max.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) <= 0;
 	}
 
+	private static boolean isWithinLongRange(BigInteger min, BigInteger max) {
+		return min.compareTo(BigInteger.valueOf(Long.MIN_VALUE)) >= 0
+			&& max.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) <= 0;
+	}
+
+	// All instances generate the same distribution
+	@Override
+	public boolean equals(Object o) {
+		return o != null && getClass() == o.getClass();
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
+
 	@Override
 	public String toString() {
 		return "UniformDistribution";
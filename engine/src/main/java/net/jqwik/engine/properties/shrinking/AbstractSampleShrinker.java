@@ -15,10 +15,12 @@ abstract class AbstractSampleShrinker {
 		return ShrinkingDistance.forCollection(shrinkables);
 	}
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final FalsificationCache falsificationCache;
+	private final CandidateSpeculation speculation;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	public AbstractSampleShrinker(FalsificationCache falsificationCache, CandidateSpeculation speculation) {
 		this.falsificationCache = falsificationCache;
+		this.speculation = speculation;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -44,23 +46,28 @@ abstract class AbstractSampleShrinker {
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+			Stream<List<Shrinkable<Object>>> candidates =
 				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
-								 .peek(t -> {
-									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
-									 }
-								 })
-								 .filter(t -> t.get3().isFalsified())
-								 .findAny();
+									  .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
+									  .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0);
+			Consumer<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> rememberInvalid = t -> {
+				// Remember best 10 invalid results in case no  falsified shrink is found
+				if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
+					filteredResults.push(t);
+				}
+			};
+
+			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+				speculation.batchSize() > 1
+					? firstFalsifiedInBatches(falsifier, candidates, rememberInvalid)
+					: candidates.map(shrinkables -> {
+									List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+									TryExecutionResult result = falsify(falsifier, params);
+									return Tuple.of(params, shrinkables, result);
+								})
+								.peek(rememberInvalid)
+								.filter(t -> t.get3().isFalsified())
+								.findAny();
 
 			if (newShrinkingResult.isPresent()) {
 				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
@@ -86,9 +93,46 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
+	/**
+	 * Candidates are announced for speculative execution in batches
+	 * but still tried one after the other.
+	 */
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> firstFalsifiedInBatches(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		Consumer<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> rememberInvalid
+	) {
+		Iterator<List<Shrinkable<Object>>> iterator = candidates.iterator();
+		while (iterator.hasNext()) {
+			List<Tuple2<List<Object>, List<Shrinkable<Object>>>> batch = new ArrayList<>();
+			while (batch.size() < speculation.batchSize() && iterator.hasNext()) {
+				List<Shrinkable<Object>> shrinkables = iterator.next();
+				batch.add(Tuple.of(createValues(shrinkables).collect(Collectors.toList()), shrinkables));
+			}
+			speculation.speculate(
+				batch.stream()
+					 .map(Tuple2::get1)
+					 .filter(params -> !falsificationCache.contains(params))
+					 .collect(Collectors.toList())
+			);
+			try {
+				for (Tuple2<List<Object>, List<Shrinkable<Object>>> candidate : batch) {
+					TryExecutionResult result = falsify(falsifier, candidate.get1());
+					Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> t = Tuple.of(candidate.get1(), candidate.get2(), result);
+					rememberInvalid.accept(t);
+					if (result.isFalsified()) {
+						return Optional.of(t);
+					}
+				}
+			} finally {
+				speculation.discardSpeculations();
+			}
+		}
+		return Optional.empty();
+	}
+
 	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
-		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+		return falsificationCache.falsify(falsifier, params);
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
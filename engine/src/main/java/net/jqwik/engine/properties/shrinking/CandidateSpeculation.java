@@ -0,0 +1,37 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+/**
+ * Allows shrinkers to announce the candidates they are about to try
+ * so that these can be executed ahead of time.
+ */
+interface CandidateSpeculation {
+
+	CandidateSpeculation NONE = new CandidateSpeculation() {
+		@Override
+		public int batchSize() {
+			return 1;
+		}
+
+		@Override
+		public void speculate(List<List<Object>> candidates) {
+		}
+
+		@Override
+		public void discardSpeculations() {
+		}
+	};
+
+	/**
+	 * @return the number of candidates that should be announced together
+	 */
+	int batchSize();
+
+	void speculate(List<List<Object>> candidates);
+
+	/**
+	 * Results of speculations that have not been used will never be needed.
+	 */
+	void discardSpeculations();
+}
@@ -0,0 +1,78 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * A source of randomness that draws all its values from a sequence of 64 bit choices.
+ * All values are derived from choices in the same way as in jqwik's default random implementation,
+ * e.g. every call to {@linkplain #next(int)} or {@linkplain #nextLong()} uses up exactly one choice.
+ * Replaying the recorded choices of a generation therefore produces the same values;
+ * replaying smaller choices usually produces simpler values.
+ *
+ * <p>
+ * The choices are either drawn from another random source and recorded,
+ * or replayed from a given sequence. A replayed sequence that has been used up yields zeros.
+ * Since generators may draw again until they get an acceptable value, a replay can be limited
+ * to a maximum number of choices. Drawing more choices than that throws a {@linkplain TooManyChoicesException}.
+ * </p>
+ */
+public class ChoiceSequenceRandom extends LongBasedRandom {
+
+	public static ChoiceSequenceRandom recording(Random source) {
+		return new ChoiceSequenceRandom(source, null, Integer.MAX_VALUE);
+	}
+
+	public static ChoiceSequenceRandom replaying(long[] choices) {
+		return replaying(choices, Integer.MAX_VALUE);
+	}
+
+	public static ChoiceSequenceRandom replaying(long[] choices, int maxChoices) {
+		return new ChoiceSequenceRandom(null, choices, maxChoices);
+	}
+
+	private final Random source;
+	private final long[] choicesToReplay;
+	private final int maxChoices;
+
+	private long[] choices = new long[16];
+	private int numberOfChoices = 0;
+
+	private ChoiceSequenceRandom(Random source, long[] choicesToReplay, int maxChoices) {
+		this.source = source;
+		this.choicesToReplay = choicesToReplay;
+		this.maxChoices = maxChoices;
+	}
+
+	@Override
+	public long nextLong() {
+		if (numberOfChoices >= maxChoices) {
+			String message = String.format("Replay must not use more than %s choices", maxChoices);
+			throw new TooManyChoicesException(message);
+		}
+		long choice = nextChoice();
+		if (numberOfChoices == choices.length) {
+			choices = Arrays.copyOf(choices, choices.length * 2);
+		}
+		choices[numberOfChoices++] = choice;
+		return choice;
+	}
+
+	private long nextChoice() {
+		if (source != null) {
+			return source.nextLong();
+		}
+		if (numberOfChoices < choicesToReplay.length) {
+			return choicesToReplay[numberOfChoices];
+		}
+		return 0L;
+	}
+
+	/**
+	 * @return all choices that have been used up so far
+	 */
+	public long[] choices() {
+		return Arrays.copyOf(choices, numberOfChoices);
+	}
+}
@@ -0,0 +1,179 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks a sample by shrinking the sequence of random choices it has been generated from.
+ * A candidate sequence is only tried if the choices actually used up by its generation
+ * are smaller than the current ones - shorter or, with equal length, lexicographically smaller.
+ * This guarantees termination and avoids most of the falsifier calls that would not lead to a simpler sample.
+ */
+class ChoiceSequenceShrinker {
+
+	private static final int[] BLOCK_SIZES = {8, 4, 2, 1};
+	private static final int[] SHIFTS = {32, 16, 8, 4, 2, 1};
+
+	private final ReplayableGeneration generation;
+	private final FalsificationCache falsificationCache;
+
+	private long[] currentChoices;
+	private FalsifiedSample currentBest = null;
+
+	ChoiceSequenceShrinker(ReplayableGeneration generation, FalsificationCache falsificationCache) {
+		this.generation = generation;
+		this.falsificationCache = falsificationCache;
+		this.currentChoices = generation.choices();
+	}
+
+	FalsifiedSample shrink(
+		Falsifier<List<Object>> falsifier,
+		FalsifiedSample sample,
+		Consumer<FalsifiedSample> sampleShrunkConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer
+	) {
+		Predicate<long[]> tryChoices = candidate -> tryChoices(candidate, falsifier, sampleShrunkConsumer, shrinkAttemptConsumer);
+		boolean improved;
+		do {
+			improved = deleteBlocks(tryChoices);
+			improved = minimizeChoices(tryChoices) || improved;
+		} while (improved);
+		return currentBest != null ? currentBest : sample;
+	}
+
+	private boolean deleteBlocks(Predicate<long[]> tryChoices) {
+		boolean improved = false;
+		for (int blockSize : BLOCK_SIZES) {
+			int start = 0;
+			while (start + blockSize <= currentChoices.length) {
+				if (tryChoices.test(withoutBlock(currentChoices, start, blockSize))) {
+					improved = true;
+				} else {
+					start++;
+				}
+			}
+		}
+		return improved;
+	}
+
+	private boolean minimizeChoices(Predicate<long[]> tryChoices) {
+		boolean improved = false;
+		for (int index = 0; index < currentChoices.length; index++) {
+			improved = minimizeChoice(index, tryChoices) || improved;
+		}
+		return improved;
+	}
+
+	private boolean minimizeChoice(int index, Predicate<long[]> tryChoices) {
+		boolean improved = false;
+		while (index < currentChoices.length && currentChoices[index] != 0) {
+			long choice = currentChoices[index];
+			if (tryChoices.test(withChoice(currentChoices, index, 0L))) {
+				return true;
+			}
+			boolean shifted = false;
+			for (int shift : SHIFTS) {
+				long shiftedChoice = choice >>> shift;
+				if (shiftedChoice != 0 && tryChoices.test(withChoice(currentChoices, index, shiftedChoice))) {
+					shifted = true;
+					break;
+				}
+			}
+			if (shifted) {
+				improved = true;
+				continue;
+			}
+			return binarySearchChoice(index, choice >>> 1, choice, tryChoices) || improved;
+		}
+		return improved;
+	}
+
+	// All choices are treated as unsigned values
+	private boolean binarySearchChoice(int index, long notFalsifying, long falsifying, Predicate<long[]> tryChoices) {
+		boolean improved = false;
+		long low = notFalsifying;
+		long high = falsifying;
+		while (Long.compareUnsigned(high - low, 1) > 0 && index < currentChoices.length) {
+			long middle = low + ((high - low) >>> 1);
+			if (tryChoices.test(withChoice(currentChoices, index, middle))) {
+				improved = true;
+				high = middle;
+			} else {
+				low = middle;
+			}
+		}
+		return improved;
+	}
+
+	private boolean tryChoices(
+		long[] candidate,
+		Falsifier<List<Object>> falsifier,
+		Consumer<FalsifiedSample> sampleShrunkConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer
+	) {
+		if (compareChoices(candidate, currentChoices) >= 0) {
+			return false;
+		}
+		// Using more choices than the current sequence can never be simpler.
+		// The limit also stops generators that draw again and again from a replayed sequence of zeros.
+		ChoiceSequenceRandom random = ChoiceSequenceRandom.replaying(candidate, currentChoices.length);
+		List<Shrinkable<Object>> shrinkables;
+		try {
+			shrinkables = generation.generate(random);
+		} catch (Throwable throwable) {
+			// Some choices cannot be turned into a sample, e.g. if a filter rejects all values
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			return false;
+		}
+		long[] usedChoices = random.choices();
+		if (compareChoices(usedChoices, currentChoices) >= 0) {
+			return false;
+		}
+
+		shrinkAttemptConsumer.accept(currentBest);
+		List<Object> parameters = shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+		TryExecutionResult result = falsificationCache.falsify(falsifier, parameters);
+		if (!result.isFalsified()) {
+			return false;
+		}
+		currentChoices = usedChoices;
+		currentBest = new FalsifiedSampleImpl(parameters, shrinkables, result.throwable(), result.footnotes());
+		sampleShrunkConsumer.accept(currentBest);
+		return true;
+	}
+
+	private static long[] withoutBlock(long[] choices, int start, int blockSize) {
+		long[] candidate = new long[choices.length - blockSize];
+		System.arraycopy(choices, 0, candidate, 0, start);
+		System.arraycopy(choices, start + blockSize, candidate, start, choices.length - start - blockSize);
+		return candidate;
+	}
+
+	private static long[] withChoice(long[] choices, int index, long choice) {
+		long[] candidate = choices.clone();
+		candidate[index] = choice;
+		return candidate;
+	}
+
+	/**
+	 * Shortlex order: Shorter sequences are smaller, sequences of equal length are compared choice by choice.
+	 */
+	static int compareChoices(long[] left, long[] right) {
+		if (left.length != right.length) {
+			return Integer.compare(left.length, right.length);
+		}
+		for (int i = 0; i < left.length; i++) {
+			int comparison = Long.compareUnsigned(left[i], right[i]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,74 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Removes chunks of halving size from a list - first each half, then each quarter
+ * and so on down to single elements - similar to the ddmin algorithm of delta debugging.
+ * Since shrinking starts over with the first falsifying candidate, a failure that depends
+ * on only a few elements of a large list usually needs a number of tries logarithmic in its size.
+ *
+ * See: Andreas Zeller, Simplifying and Isolating Failure-Inducing Input
+ */
+public class ChunksOfListShrinker<T> {
+
+	private final int minSize;
+
+	public ChunksOfListShrinker(int minSize) {
+		this.minSize = minSize;
+	}
+
+	public Stream<List<T>> shrink(List<T> toShrink) {
+		int maxToRemove = toShrink.size() - minSize;
+		if (maxToRemove <= 0) {
+			return Stream.empty();
+		}
+		// Candidates are created lazily because usually only a few of them are tried
+		Iterator<List<T>> removals = new ChunkRemovals(toShrink, firstChunkSize(toShrink.size(), maxToRemove));
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(removals, Spliterator.ORDERED), false);
+	}
+
+	private static int firstChunkSize(int size, int maxToRemove) {
+		int chunkSize = (size + 1) / 2;
+		while (chunkSize > maxToRemove) {
+			chunkSize = (chunkSize + 1) / 2;
+		}
+		return chunkSize;
+	}
+
+	private class ChunkRemovals implements Iterator<List<T>> {
+
+		private final List<T> toShrink;
+		private int chunkSize;
+		private int start = 0;
+
+		private ChunkRemovals(List<T> toShrink, int chunkSize) {
+			this.toShrink = toShrink;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return chunkSize > 0;
+		}
+
+		@Override
+		public List<T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int end = Math.min(start + chunkSize, toShrink.size());
+			List<T> shrunk = new ArrayList<>(toShrink.size() - (end - start));
+			shrunk.addAll(toShrink.subList(0, start));
+			shrunk.addAll(toShrink.subList(end, toShrink.size()));
+
+			start = end;
+			if (start >= toShrink.size()) {
+				chunkSize = chunkSize == 1 ? 0 : (chunkSize + 1) / 2;
+				start = 0;
+			}
+			return shrunk;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Remembers which shrinking candidates have already been tried so that a property is not executed twice with the same parameters.
+ *
+ * <p>
+ * To keep memory consumption flat while shrinking large samples the cache
+ * <ul>
+ *     <li>only stores satisfied and invalid results - without throwables - since falsified candidates
+ *     become the next shrinking base anyway and are hardly ever tried again,</li>
+ *     <li>evicts the least recently used entries when it has reached its maximum size.</li>
+ * </ul>
+ * Entries are looked up by equality of the parameters, not only by their hash codes,
+ * because hash codes of lists and strings collide systematically, e.g. for {@code [1, 0]} and {@code [0, 31]}.
+ * </p>
+ */
+class FalsificationCache {
+
+	static final int DEFAULT_MAX_SIZE = 10_000;
+
+	private final Map<List<Object>, TryExecutionResult.Status> results;
+
+	private int hits = 0;
+	private int misses = 0;
+	private int evictions = 0;
+
+	FalsificationCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	FalsificationCache(int maxSize) {
+		this.results = new LinkedHashMap<List<Object>, TryExecutionResult.Status>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, TryExecutionResult.Status> eldest) {
+				if (size() > maxSize) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> parameters) {
+		TryExecutionResult.Status cachedStatus = results.get(parameters);
+		if (cachedStatus != null) {
+			hits++;
+			return cachedStatus == TryExecutionResult.Status.SATISFIED
+					   ? TryExecutionResult.satisfied()
+					   : TryExecutionResult.invalid();
+		}
+		misses++;
+		TryExecutionResult result = falsifier.execute(parameters);
+		if (!result.isFalsified()) {
+			results.put(parameters, result.status());
+		}
+		return result;
+	}
+
+	boolean contains(List<Object> parameters) {
+		return results.containsKey(parameters);
+	}
+
+	int hits() {
+		return hits;
+	}
+
+	int misses() {
+		return misses;
+	}
+
+	int evictions() {
+		return evictions;
+	}
+
+	int size() {
+		return results.size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("FalsificationCache[size=%d, hits=%d, misses=%d, evictions=%d]", size(), hits, misses, evictions);
+	}
+}
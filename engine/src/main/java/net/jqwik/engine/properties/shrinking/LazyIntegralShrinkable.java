@@ -0,0 +1,98 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Shrinkable for integral values within the range of {@code long}.
+ * The {@linkplain ShrinkableBigInteger} that does the actual shrinking and growing
+ * is only created when it is needed, which for most generated values is never.
+ */
+public class LazyIntegralShrinkable<T> implements Shrinkable<T> {
+
+	private final long value;
+	private final Range<BigInteger> range;
+	private final BigInteger shrinkingTarget;
+	private final LongFunction<T> toValue;
+	private final Function<BigInteger, T> fromBigInteger;
+
+	public LazyIntegralShrinkable(
+		long value,
+		Range<BigInteger> range,
+		BigInteger shrinkingTarget,
+		LongFunction<T> toValue,
+		Function<BigInteger, T> fromBigInteger
+	) {
+		this.value = value;
+		this.range = range;
+		this.shrinkingTarget = shrinkingTarget;
+		this.toValue = toValue;
+		this.fromBigInteger = fromBigInteger;
+	}
+
+	@Override
+	public T value() {
+		return toValue.apply(value);
+	}
+
+	public long longValue() {
+		return value;
+	}
+
+	private Shrinkable<T> materialize() {
+		return new ShrinkableBigInteger(BigInteger.valueOf(value), range, shrinkingTarget).map(fromBigInteger);
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> shrink() {
+		return materialize().shrink();
+	}
+
+	@Override
+	public Optional<Shrinkable<T>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return materialize().grow(before, after);
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> grow() {
+		return materialize().grow();
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		long target = shrinkingTarget.longValue();
+		long difference = value - target;
+		boolean overflow = ((value ^ target) & (value ^ difference)) < 0;
+		if (overflow || difference == Long.MIN_VALUE) {
+			return ShrinkingDistance.of(Long.MAX_VALUE);
+		}
+		return ShrinkingDistance.of(Math.abs(difference));
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		LazyIntegralShrinkable<?> that = (LazyIntegralShrinkable<?>) o;
+		return value == that.value;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<%s>(%s:%s)",
+							 getClass().getSimpleName(),
+							 value().getClass().getSimpleName(),
+							 value(), distance()
+		);
+	}
+}
@@ -25,12 +25,15 @@ public class PropertyShrinker {
 	private final int boundedShrinkingSeconds;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
+	private final Optional<ReplayableGeneration> replayableGeneration;
+	private final int shrinkingParallelism;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
 	private final List<TryExecutionResult.Status> shrinkingSequence = new LinkedList<>();
 
-	private Optional<FalsifiedSample> currentBest = Optional.empty();
-	private volatile boolean shrinkingInterrupted = false;
+	private volatile Optional<FalsifiedSample> currentBest = Optional.empty();
+	private volatile long deadlineNanos;
+	private volatile boolean shrinkingCancelled = false;
 
 	public PropertyShrinker(
 		FalsifiedSample originalSample,
@@ -38,12 +41,26 @@ public class PropertyShrinker {
 		int boundedShrinkingSeconds,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
+	) {
+		this(originalSample, shrinkingMode, boundedShrinkingSeconds, falsifiedSampleReporter, targetMethod, Optional.empty(), 1);
+	}
+
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod,
+		Optional<ReplayableGeneration> replayableGeneration,
+		int shrinkingParallelism
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
+		this.replayableGeneration = replayableGeneration;
+		this.shrinkingParallelism = shrinkingParallelism;
 	}
 
 	public ShrunkFalsifiedSample shrink(Falsifier<List<Object>> forAllFalsifier) {
@@ -70,21 +87,29 @@ public class PropertyShrinker {
 			}
 		};
 
-		return shrink(allowOnlyEquivalentErrorsFalsifier, sampleShrunkConsumer, shrinkAttemptConsumer);
+		if (shrinkingParallelism > 1) {
+			try (SpeculativeFalsifier speculativeFalsifier = new SpeculativeFalsifier(allowOnlyEquivalentErrorsFalsifier, shrinkingParallelism)) {
+				return shrink(speculativeFalsifier, speculativeFalsifier, sampleShrunkConsumer, shrinkAttemptConsumer);
+			}
+		}
+		return shrink(allowOnlyEquivalentErrorsFalsifier, CandidateSpeculation.NONE, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 	public List<TryExecutionResult.Status> shrinkingSequence() {
-		int indexOfLastFalsified = shrinkingSequence.lastIndexOf(TryExecutionResult.Status.FALSIFIED);
-		return shrinkingSequence.subList(0, indexOfLastFalsified + 1);
+		synchronized (shrinkingSequence) {
+			int indexOfLastFalsified = shrinkingSequence.lastIndexOf(TryExecutionResult.Status.FALSIFIED);
+			return new ArrayList<>(shrinkingSequence.subList(0, indexOfLastFalsified + 1));
+		}
 	}
 
 	private ShrunkFalsifiedSample shrink(
 		Falsifier<List<Object>> falsifier,
+		CandidateSpeculation speculation,
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
 		FalsifiedSample fullyShrunkSample;
-		Supplier<FalsifiedSample> shrinkUntilDone = () -> shrinkAsLongAsSampleImproves(falsifier, sampleShrunkConsumer, shrinkAttemptConsumer);
+		Supplier<FalsifiedSample> shrinkUntilDone = () -> shrinkAsLongAsSampleImproves(falsifier, speculation, sampleShrunkConsumer, shrinkAttemptConsumer);
 		if (shrinkingMode == ShrinkingMode.FULL) {
 			fullyShrunkSample = shrinkUntilDone.get();
 		} else {
@@ -93,34 +118,80 @@ public class PropertyShrinker {
 		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
 	}
 
+	/**
+	 * Shrinking runs on its own thread so that it can be given up when the deadline has been reached.
+	 * The shrinking thread checks the deadline before and after each try and is interrupted on timeout
+	 * so that it stops using resources right away instead of continuing in the background.
+	 */
 	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
+		ExecutorService executor = Executors.newSingleThreadExecutor(PropertyShrinker::newShrinkingThread);
 		try {
 			TestDescriptor currentDescriptor = CurrentTestDescriptor.get();
 			DomainContext currentContext = CurrentDomainContext.get();
-			Supplier<FalsifiedSample> shrinkWithTestDescriptor =
+			Callable<FalsifiedSample> shrinkWithTestDescriptor =
 				() -> CurrentDomainContext.runWithContext(
 					currentContext,
 					() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, shrinkUntilDone)
 				);
-			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkWithTestDescriptor);
-			return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
-		} catch (InterruptedException | ExecutionException e) {
+			deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(boundedShrinkingSeconds);
+			Future<FalsifiedSample> falsifiedSampleFuture = executor.submit(shrinkWithTestDescriptor);
+			try {
+				return falsifiedSampleFuture.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				cancelShrinking(falsifiedSampleFuture);
+				return currentBest.orElse(originalSample);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof ShrinkingCancelled) {
+					cancelShrinking(falsifiedSampleFuture);
+					return currentBest.orElse(originalSample);
+				}
+				return JqwikExceptionSupport.throwAsUncheckedException(e.getCause());
+			}
+		} catch (InterruptedException e) {
+			shrinkingCancelled = true;
+			Thread.currentThread().interrupt();
 			return JqwikExceptionSupport.throwAsUncheckedException(e);
-		} catch (TimeoutException e) {
-			shrinkingInterrupted = true;
-			logShrinkingBoundReached();
-			return currentBest.orElse(originalSample);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void cancelShrinking(Future<FalsifiedSample> shrinkingFuture) {
+		synchronized (shrinkingSequence) {
+			shrinkingCancelled = true;
+		}
+		shrinkingFuture.cancel(true);
+		logShrinkingBoundReached();
+	}
+
+	private static Thread newShrinkingThread(Runnable runnable) {
+		Thread thread = new Thread(runnable, "jqwik-shrinking");
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	private void checkCancellation() {
+		if (shrinkingMode != ShrinkingMode.BOUNDED) {
+			return;
+		}
+		boolean deadlineReached = System.nanoTime() - deadlineNanos >= 0;
+		if (shrinkingCancelled || deadlineReached || Thread.currentThread().isInterrupted()) {
+			throw new ShrinkingCancelled();
 		}
 	}
 
 	private FalsifiedSample shrinkAsLongAsSampleImproves(
 		final Falsifier<List<Object>> falsifier,
+		final CandidateSpeculation speculation,
 		final Consumer<FalsifiedSample> sampleShrunkConsumer,
 		final Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
 		Falsifier<List<Object>> recordingFalsifier = params -> {
+			checkCancellation();
 			TryExecutionResult executionResult = falsifier.execute(params);
-			if (!shrinkingInterrupted) {
+			// The result of a try that has been interrupted or that ended after the deadline must not be used
+			synchronized (shrinkingSequence) {
+				checkCancellation();
 				shrinkingSequence.add(executionResult.status());
 			}
 			return executionResult;
@@ -129,7 +200,9 @@ public class PropertyShrinker {
 		ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
 			originalSample,
 			sampleShrunkConsumer,
-			shrinkAttemptConsumer
+			shrinkAttemptConsumer,
+			replayableGeneration,
+			speculation
 		);
 
 		return plainShrinker.shrink(recordingFalsifier);
@@ -153,4 +226,9 @@ public class PropertyShrinker {
 		LOG.warning(value);
 	}
 
+	private static class ShrinkingCancelled extends RuntimeException {
+		private ShrinkingCancelled() {
+			super("Bounded shrinking has been cancelled", null, false, false);
+		}
+	}
 }
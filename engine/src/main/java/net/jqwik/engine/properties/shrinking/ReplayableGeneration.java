@@ -0,0 +1,24 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The generation of a falsified sample in a form that allows to generate
+ * the sample again from other - usually simpler - random choices.
+ *
+ * @see ChoiceSequenceRandom
+ */
+public interface ReplayableGeneration {
+
+	/**
+	 * @return the random choices the original sample has been generated from
+	 */
+	long[] choices();
+
+	/**
+	 * Generate a full sample and draw all randomness from {@code random}.
+	 */
+	List<Shrinkable<Object>> generate(Random random);
+}
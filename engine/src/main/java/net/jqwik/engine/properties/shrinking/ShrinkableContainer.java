@@ -11,6 +11,10 @@ import net.jqwik.engine.support.*;
 import static net.jqwik.engine.properties.UniquenessChecker.*;
 
 abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
+
+	// Above this size pairs of elements are no longer shrunk and only the first elements are shrunk individually
+	static final int MANY_ELEMENTS = 100;
+
 	protected final List<Shrinkable<E>> elements;
 	protected final int minSize;
 	protected final int maxSize;
@@ -37,6 +41,13 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public Stream<Shrinkable<C>> shrink() {
+		if (hasManyElements()) {
+			return JqwikStreamSupport.concat(
+				shrinkSizeAggressively(),
+				shrinkSizeInChunks(),
+				shrinkElementsOneAfterTheOther(MANY_ELEMENTS)
+			);
+		}
 		return JqwikStreamSupport.concat(
 			shrinkSizeOfList(),
 			shrinkElementsOneAfterTheOther(0),
@@ -112,7 +123,19 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 					   .sorted(Comparator.comparing(Shrinkable::distance));
 	}
 
+	protected boolean hasManyElements() {
+		return elements.size() > MANY_ELEMENTS;
+	}
+
+	// Not sorted by distance since that would create all candidates upfront
+	protected Stream<Shrinkable<C>> shrinkSizeInChunks() {
+		return new ChunksOfListShrinker<Shrinkable<E>>(minSize)
+					   .shrink(elements)
+					   .map(this::createShrinkable);
+	}
+
 	protected Stream<Shrinkable<C>> shrinkElementsOneAfterTheOther(int maxToShrink) {
+		UniquenessIndex<E> uniquenessIndex = uniquenessIndex();
 		List<Stream<Shrinkable<C>>> shrinkPerElementStreams = new ArrayList<>();
 		for (int i = 0; i < elements.size(); i++) {
 			if (maxToShrink > 0 && i >= maxToShrink) {
@@ -121,12 +144,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!uniquenessExtractors.isEmpty() && !uniquenessIndex.isUniqueReplacing(element.value(), shrunkElement.value())) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
+				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
+				elementsCopy.set(index, shrunkElement);
 				return Stream.of(createShrinkable(elementsCopy));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
@@ -134,6 +156,14 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		return JqwikStreamSupport.concat(shrinkPerElementStreams);
 	}
 
+	private UniquenessIndex<E> uniquenessIndex() {
+		if (uniquenessExtractors.isEmpty()) {
+			return new UniquenessIndex<>(uniquenessExtractors);
+		}
+		List<E> values = elements.stream().map(Shrinkable::value).collect(Collectors.toList());
+		return UniquenessIndex.of(uniquenessExtractors, values);
+	}
+
 	protected Stream<Shrinkable<C>> shrinkPairsOfElements() {
 		ShrinkingCommons.ContainerCreator<C, E> createContainer = newElements -> {
 			if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
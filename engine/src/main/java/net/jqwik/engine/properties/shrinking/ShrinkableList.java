@@ -32,6 +32,10 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 
 	@Override
 	public Stream<Shrinkable<List<E>>> shrink() {
+		// Moving values of many elements would try a quadratic number of pairs
+		if (hasManyElements()) {
+			return super.shrink();
+		}
 		return JqwikStreamSupport.concat(
 				super.shrink(),
 				sortElements(),
@@ -25,17 +25,11 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 
 	@Override
 	public Stream<Shrinkable<String>> shrink() {
-		if (elements.size() > 100) {
-			return JqwikStreamSupport.concat(
-					shrinkSizeAggressively(),
-					shrinkSizeOfList(),
-					shrinkElementsOneAfterTheOther(100)
-			);
+		if (hasManyElements()) {
+			return super.shrink();
 		}
 		return JqwikStreamSupport.concat(
-				shrinkSizeOfList(),
-				shrinkElementsOneAfterTheOther(0),
-				shrinkPairsOfElements(),
+				super.shrink(),
 				sortElements()
 		);
 	}
@@ -2,30 +2,57 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
 import java.util.function.*;
+import java.util.logging.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 class ShrinkingAlgorithm {
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache = new LinkedHashMap<>();
+	private static final Logger LOG = Logger.getLogger(ShrinkingAlgorithm.class.getName());
+
+	private final FalsificationCache falsificationCache = new FalsificationCache();
 	private final FalsifiedSample originalSample;
 	private final Consumer<FalsifiedSample> sampleShrunkConsumer;
 	private final Consumer<FalsifiedSample> shrinkAttemptConsumer;
+	private final Optional<ReplayableGeneration> replayableGeneration;
+	private final CandidateSpeculation speculation;
 
 	ShrinkingAlgorithm(
 		FalsifiedSample originalSample,
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
+		this(originalSample, sampleShrunkConsumer, shrinkAttemptConsumer, Optional.empty());
+	}
+
+	ShrinkingAlgorithm(
+		FalsifiedSample originalSample,
+		Consumer<FalsifiedSample> sampleShrunkConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		Optional<ReplayableGeneration> replayableGeneration
+	) {
+		this(originalSample, sampleShrunkConsumer, shrinkAttemptConsumer, replayableGeneration, CandidateSpeculation.NONE);
+	}
+
+	ShrinkingAlgorithm(
+		FalsifiedSample originalSample,
+		Consumer<FalsifiedSample> sampleShrunkConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		Optional<ReplayableGeneration> replayableGeneration,
+		CandidateSpeculation speculation
+	) {
 
 		this.originalSample = originalSample;
 		this.sampleShrunkConsumer = sampleShrunkConsumer;
 		this.shrinkAttemptConsumer = shrinkAttemptConsumer;
+		this.replayableGeneration = replayableGeneration;
+		this.speculation = speculation;
 	}
 
 	FalsifiedSample shrink(final Falsifier<List<Object>> falsifier) {
-		FalsifiedSample after = originalSample;
+		// Shrinking the random choices first leaves less work for the more expensive shrinking of values
+		FalsifiedSample after = replayableGeneration.map(generation -> shrinkChoices(generation, falsifier)).orElse(originalSample);
 		FalsifiedSample before;
 		do {
 			before = after;
@@ -39,16 +66,22 @@ class ShrinkingAlgorithm {
 			}
 			after = shrinkAndGrow(falsifier, after, sampleShrunkConsumer, shrinkAttemptConsumer);
 		} while (!after.equals(before));
+		LOG.fine(falsificationCache::toString);
 		return after;
 	}
 
+	private FalsifiedSample shrinkChoices(ReplayableGeneration generation, Falsifier<List<Object>> falsifier) {
+		return new ChoiceSequenceShrinker(generation, falsificationCache)
+				   .shrink(falsifier, originalSample, sampleShrunkConsumer, shrinkAttemptConsumer);
+	}
+
 	private FalsifiedSample shrinkOneParameterAfterTheOther(
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, speculation)
 				   .shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
@@ -58,7 +91,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, speculation).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 	private FalsifiedSample shrinkAndGrow(
@@ -67,7 +100,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new ShrinkAndGrowShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new ShrinkAndGrowShrinker(falsificationCache, speculation).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 }
@@ -12,9 +12,12 @@ import net.jqwik.engine.properties.*;
 public class ShrunkSampleRecreator {
 
 	private final List<Shrinkable<Object>> shrinkables;
+	private final Optional<ReplayableGeneration> replayableGeneration;
 
 	public ShrunkSampleRecreator(List<Shrinkable<Object>> shrinkables) {
-		this.shrinkables = shrinkables;
+		this.shrinkables = ReplayableShrinkable.unwrap(shrinkables);
+		// Choice sequence shrinking must be replayed as well
+		this.replayableGeneration = ReplayableShrinkable.replayableGeneration(shrinkables);
 	}
 
 	public Optional<List<Shrinkable<Object>>> recreateFrom(List<TryExecutionResult.Status> shrinkingSequence) {
@@ -33,7 +36,8 @@ public class ShrunkSampleRecreator {
 		ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
 			originalSample,
 			sampleShrunkConsumer,
-			ignore -> {}
+			ignore -> {},
+			replayableGeneration
 		);
 
 		try {
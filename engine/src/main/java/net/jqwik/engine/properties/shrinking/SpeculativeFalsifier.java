@@ -0,0 +1,106 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Executes announced shrinking candidates in parallel.
+ *
+ * <p>
+ * Shrinkers still try their candidates one after the other.
+ * When a candidate has been executed ahead of time its result is just taken over,
+ * otherwise it is executed on the spot. Candidates are tried - and results are recorded -
+ * in exactly the same order as without speculation, which keeps shrinking deterministic
+ * and the shrinking sequence replayable.
+ * </p>
+ *
+ * <p>
+ * Since candidates run concurrently, each one is executed as a {@linkplain CurrentTry try} of its own.
+ * </p>
+ */
+class SpeculativeFalsifier implements Falsifier<List<Object>>, CandidateSpeculation, AutoCloseable {
+
+	private final Falsifier<List<Object>> falsifier;
+	private final int parallelism;
+	private final ParallelTriesExecutor executor;
+
+	// Candidates are identified by the very parameter list that will be tried later
+	private final Map<List<Object>, Future<ParallelTriesExecutor.TryOutcome>> speculations = Collections.synchronizedMap(new IdentityHashMap<>());
+
+	SpeculativeFalsifier(Falsifier<List<Object>> falsifier, int parallelism) {
+		this.falsifier = falsifier;
+		this.parallelism = parallelism;
+		this.executor = new ParallelTriesExecutor(parallelism);
+	}
+
+	@Override
+	public int batchSize() {
+		return parallelism;
+	}
+
+	@Override
+	public void speculate(List<List<Object>> candidates) {
+		for (List<Object> candidate : candidates) {
+			try {
+				speculations.put(candidate, executor.submit(() -> executeAsOwnTry(candidate)));
+			} catch (RejectedExecutionException closed) {
+				// Shrinking has been stopped in the meantime
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void discardSpeculations() {
+		synchronized (speculations) {
+			speculations.values().forEach(future -> future.cancel(true));
+			speculations.clear();
+		}
+	}
+
+	@Override
+	public TryExecutionResult execute(List<Object> parameters) {
+		Future<ParallelTriesExecutor.TryOutcome> speculation = speculations.remove(parameters);
+		if (speculation == null) {
+			return executeAsOwnTry(parameters);
+		}
+		ParallelTriesExecutor.TryOutcome outcome = waitFor(speculation).orElse(null);
+		if (outcome == null) {
+			return executeAsOwnTry(parameters);
+		}
+		if (outcome.throwable().isPresent()) {
+			return JqwikExceptionSupport.throwAsUncheckedException(outcome.throwable().get());
+		}
+		return outcome.result().get();
+	}
+
+	// Speculations still running must not see or reset the try store values of this candidate
+	private TryExecutionResult executeAsOwnTry(List<Object> parameters) {
+		return CurrentTry.runWithTry(new Object(), () -> falsifier.execute(parameters));
+	}
+
+	private Optional<ParallelTriesExecutor.TryOutcome> waitFor(Future<ParallelTriesExecutor.TryOutcome> future) {
+		try {
+			return Optional.of(future.get());
+		} catch (CancellationException cancelled) {
+			return Optional.empty();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	@Override
+	public void close() {
+		discardSpeculations();
+		executor.close();
+	}
+}
@@ -0,0 +1,9 @@
+package net.jqwik.engine.properties.shrinking;
+
+import net.jqwik.api.*;
+
+public class TooManyChoicesException extends JqwikException {
+	public TooManyChoicesException(String message) {
+		super(message);
+	}
+}
@@ -12,6 +12,11 @@ public class ArbitraryArbitraryProvider implements ArbitraryProvider {
 		return targetType.isOfType(Arbitrary.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Arbitrary.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		TypeUsage innerType = targetType.getTypeArguments().get(0);
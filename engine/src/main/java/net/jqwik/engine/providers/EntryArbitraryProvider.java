@@ -12,6 +12,11 @@ public class EntryArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Map.Entry.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Map.Entry.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		TypeUsage keyType = targetType.getTypeArgument(0);
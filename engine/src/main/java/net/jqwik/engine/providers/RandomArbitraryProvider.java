@@ -11,6 +11,11 @@ public class RandomArbitraryProvider implements ArbitraryProvider {
 		return targetType.isOfType(Random.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Random.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.randoms());
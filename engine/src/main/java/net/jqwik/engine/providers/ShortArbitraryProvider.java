@@ -11,6 +11,11 @@ public class ShortArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Short.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Short.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.shorts());
@@ -1,29 +1,40 @@
 package net.jqwik.engine.recording;
 
-import java.io.*;
+import java.util.function.*;
 
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 import net.jqwik.engine.execution.*;
 
-public class TestRun implements Serializable {
+public class TestRun {
 	private final String uniqueIdString;
 	private final int statusOrdinal;
-	private final GenerationInfo generationInfo;
+
+	// Generation info of test runs read from the database is only decoded when needed
+	private Supplier<GenerationInfo> generationInfoSupplier;
+	private GenerationInfo generationInfo;
 
 	public TestRun(
 		UniqueId uniqueId,
 		Status status,
 		GenerationInfo generationInfo
 	) {
-		this.uniqueIdString = uniqueId.toString();
-		this.statusOrdinal = status.ordinal();
-		this.generationInfo = generationInfo;
+		this(uniqueId.toString(), status.ordinal(), () -> generationInfo);
+	}
+
+	TestRun(String uniqueIdString, int statusOrdinal, Supplier<GenerationInfo> generationInfoSupplier) {
+		this.uniqueIdString = uniqueIdString;
+		this.statusOrdinal = statusOrdinal;
+		this.generationInfoSupplier = generationInfoSupplier;
+	}
+
+	String uniqueIdString() {
+		return uniqueIdString;
 	}
 
-	boolean hasUniqueId(UniqueId uniqueId) {
-		return getUniqueId().equals(uniqueId);
+	int statusOrdinal() {
+		return statusOrdinal;
 	}
 
 	public boolean isNotSuccessful() {
@@ -38,13 +49,17 @@ public class TestRun implements Serializable {
 		return Status.values()[statusOrdinal];
 	}
 
-	public GenerationInfo generationInfo() {
+	public synchronized GenerationInfo generationInfo() {
+		if (generationInfoSupplier != null) {
+			generationInfo = generationInfoSupplier.get();
+			generationInfoSupplier = null;
+		}
 		return generationInfo;
 	}
 
 	@Override
 	public String toString() {
-		return String.format("TestRun[%s:%s:%s]", uniqueIdString, getStatus(), generationInfo);
+		return String.format("TestRun[%s:%s:%s]", uniqueIdString, getStatus(), generationInfo());
 	}
 
 }
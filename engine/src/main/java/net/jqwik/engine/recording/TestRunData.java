@@ -5,39 +5,33 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
-import net.jqwik.engine.support.*;
-
+/**
+ * Test runs are indexed by their unique id.
+ * A test run added later replaces an earlier one with the same unique id.
+ */
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	private final Map<String, TestRun> testRunsById = new LinkedHashMap<>();
 
 	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+		data.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new LinkedHashSet<>());
+		this(Collections.emptyList());
 	}
 
 	public void add(TestRun testRun) {
-		data.add(testRun);
+		// Remove first so that iteration order reflects the latest addition
+		testRunsById.remove(testRun.uniqueIdString());
+		testRunsById.put(testRun.uniqueIdString(), testRun);
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
-		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
-		} catch (Throwable t) {
-			// An exception during test run data read should not stop the test run.
-			// Most of the time it's an error due to format change which will go away
-			// after one test run where the test run data has been written anew.
-			JqwikExceptionSupport.rethrowIfBlacklisted(t);
-			return Optional.empty();
-		}
+		return Optional.ofNullable(testRunsById.get(uniqueId.toString()));
 	}
 
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(TestRun::isNotSuccessful);
+		return testRunsById.values().stream().filter(TestRun::isNotSuccessful);
 	}
 }
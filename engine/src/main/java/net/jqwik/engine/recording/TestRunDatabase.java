@@ -1,63 +1,120 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.logging.*;
 
+/**
+ * The database is an append-only file of test run records (see {@linkplain TestRunRecords}).
+ * When reading the database the latest record for a test's unique id wins.
+ * Generation info is only decoded for test runs that are actually looked up.
+ *
+ * <p>
+ * Successful runs are only recorded if they supersede a previously failing run.
+ * Records that have been superseded or that describe successful runs are removed
+ * by compacting the database when there are more of them than failing test runs.
+ * Compaction also removes corrupt or incomplete records and recreates a database in unknown format.
+ * A database that cannot be read at all is never compacted.
+ * </p>
+ *
+ * <p>
+ * Several processes, e.g. parallel Gradle test forks, can use the same database.
+ * Access is coordinated through a lock file next to the database:
+ * Reading takes a shared lock; appending records and compacting take an exclusive lock.
+ * Records are buffered and appended in one go so that a database is only opened for writing briefly.
+ * </p>
+ */
 public class TestRunDatabase {
 
 	// Only record failing test runs, the others are currently not needed anywhere
 	private static final Boolean RECORD_SUCCESSFUL_RUNS = false;
 
+	static final int MIN_OBSOLETE_RECORDS_FOR_COMPACTION = 100;
+
+	private static final int MAX_BUFFERED_BYTES = 64 * 1024;
+
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
 	private final Path databasePath;
-	private final TestRunData previousRunData;
+	private final Path lockPath;
+	private final DatabaseContent previousContent;
 	private boolean stopRecording = false;
 
 	public TestRunDatabase(Path databasePath) {
 		this.databasePath = databasePath;
-		this.previousRunData = loadExistingRunData();
+		this.lockPath = databasePath.resolveSibling(databasePath.getFileName() + ".lock");
+		this.previousContent = loadExistingContent();
 	}
 
-	private TestRunData loadExistingRunData() {
+	private DatabaseContent loadExistingContent() {
 		if (!Files.exists(databasePath)) {
-			return new TestRunData();
+			return DatabaseContent.empty();
 		}
-
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
-		} catch (Exception e) {
-			logReadException(e);
-			deleteDatabase();
-			return new TestRunData();
+		try {
+			return withLock(true, this::readContent);
+		} catch (IOException cannotLock) {
+			logReadException(cannotLock);
+			return readContent();
 		}
 	}
 
-	private void deleteDatabase() {
+	private DatabaseContent readContent() {
+		byte[] content;
 		try {
-			Files.delete(databasePath);
-		} catch (IOException ignore) {
+			if (!Files.exists(databasePath)) {
+				return DatabaseContent.empty();
+			}
+			content = Files.readAllBytes(databasePath);
+		} catch (IOException e) {
+			logReadException(e);
+			// A database that cannot be read must not be compacted, which would throw away its content
+			return DatabaseContent.empty();
+		}
+		if (!TestRunRecords.hasCurrentHeader(content)) {
+			LOG.log(Level.INFO, () -> String.format("Database [%s] has unknown format and will be recreated", databasePath.toAbsolutePath()));
+			return DatabaseContent.unknownFormat();
 		}
+		return readAllTestRuns(content);
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
-		while (true) {
+	private DatabaseContent readAllTestRuns(byte[] content) {
+		DatabaseContent databaseContent = DatabaseContent.empty();
+		ByteBuffer buffer = ByteBuffer.wrap(content);
+		buffer.position(TestRunRecords.HEADER_LENGTH);
+		while (buffer.hasRemaining()) {
+			TestRun testRun;
 			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
-				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
+				testRun = TestRunRecords.readRecord(content, buffer);
+			} catch (RuntimeException corruptRecord) {
+				// The record's length is intact, so reading goes on with the next record
+				logReadException(corruptRecord);
+				databaseContent.hasInvalidRecords = true;
+				continue;
+			}
+			if (testRun == null) {
+				// Most probably the last record could not be written completely
+				databaseContent.hasInvalidRecords = true;
 				break;
 			}
+			databaseContent.testRunData.add(testRun);
+			databaseContent.numberOfRecords++;
+		}
+		return databaseContent;
+	}
+
+	private <T> T withLock(boolean shared, IOSupplier<T> action) throws IOException {
+		// File locks are held per process, threads of this process must be kept out explicitly
+		synchronized (TestRunDatabase.class) {
+			try (
+				FileChannel lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+				FileLock ignore = lockChannel.lock(0, Long.MAX_VALUE, shared)
+			) {
+				return action.get();
+			}
 		}
-		return testRuns;
 	}
 
 	private void logReadException(Exception eof) {
@@ -68,36 +125,80 @@ public class TestRunDatabase {
 		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
+	private void compactIfNecessary() {
+		if (!previousContent.needsCompaction()) {
+			return;
+		}
 		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+			withLock(false, () -> {
+				// Another process might have changed the database in the meantime
+				DatabaseContent currentContent = readContent();
+				if (currentContent.needsCompaction()) {
+					compact(currentContent);
+				}
+				return null;
+			});
 		} catch (IOException e) {
-			stopRecording = true;
 			logWriteException(e);
-			return null;
 		}
 	}
 
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private void compact(DatabaseContent content) throws IOException {
+		Path compactedPath = databasePath.resolveSibling(databasePath.getFileName() + ".compacted");
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compactedPath)))) {
+				TestRunRecords.writeHeader(output);
+				Iterator<TestRun> failingRuns = content.testRunData.allNonSuccessfulTests().iterator();
+				while (failingRuns.hasNext()) {
+					TestRunRecords.writeRecord(output, failingRuns.next());
+				}
+			}
+			replaceDatabaseWith(compactedPath);
+		} finally {
+			Files.deleteIfExists(compactedPath);
+		}
+	}
+
+	private void replaceDatabaseWith(Path compactedPath) throws IOException {
+		try {
+			Files.move(compactedPath, databasePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException notSupported) {
+			Files.move(compactedPath, databasePath, StandardCopyOption.REPLACE_EXISTING);
+		}
 	}
 
-	private class Recorder implements TestRunRecorder {
+	private void append(byte[] records) throws IOException {
+		withLock(false, () -> {
+			boolean isNewDatabase = !Files.exists(databasePath) || Files.size(databasePath) == 0;
+			try (OutputStream output = Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				if (isNewDatabase) {
+					TestRunRecords.writeHeader(new DataOutputStream(bytes));
+				}
+				bytes.write(records);
+				// Write everything at once so that readers never see a part of it
+				output.write(bytes.toByteArray());
+			}
+			return null;
+		});
+	}
 
-		private final ObjectOutputStream objectOutputStream;
+	private class Recorder implements TestRunRecorder {
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
-		}
+		private final ByteArrayOutputStream bufferedRecords = new ByteArrayOutputStream();
+		private final DataOutputStream outputStream = new DataOutputStream(bufferedRecords);
 
 		@Override
-		public void record(TestRun testRun) {
+		public synchronized void record(TestRun testRun) {
 			if (stopRecording) {
 				return;
 			}
 			try {
-				if (testRun.isNotSuccessful() || RECORD_SUCCESSFUL_RUNS) {
-					objectOutputStream.writeObject(testRun);
+				if (testRun.isNotSuccessful() || RECORD_SUCCESSFUL_RUNS || supersedesPreviousFailure(testRun)) {
+					TestRunRecords.writeRecord(outputStream, testRun);
+				}
+				if (bufferedRecords.size() >= MAX_BUFFERED_BYTES) {
+					flush();
 				}
 			} catch (IOException e) {
 				stopRecording = true;
@@ -105,11 +206,29 @@ public class TestRunDatabase {
 			}
 		}
 
+		private boolean supersedesPreviousFailure(TestRun testRun) {
+			return previousRun().byUniqueId(testRun.getUniqueId())
+								.map(TestRun::isNotSuccessful)
+								.orElse(false);
+		}
+
+		private void flush() throws IOException {
+			if (bufferedRecords.size() == 0) {
+				return;
+			}
+			append(bufferedRecords.toByteArray());
+			bufferedRecords.reset();
+		}
+
 		@Override
-		public void close() {
+		public synchronized void close() {
+			if (stopRecording) {
+				return;
+			}
 			try {
-				objectOutputStream.close();
+				flush();
 			} catch (IOException e) {
+				stopRecording = true;
 				logWriteException(e);
 			}
 		}
@@ -117,10 +236,45 @@ public class TestRunDatabase {
 	}
 
 	public TestRunData previousRun() {
-		return previousRunData;
+		return previousContent.testRunData;
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		compactIfNecessary();
+		return new Recorder();
+	}
+
+	private interface IOSupplier<T> {
+		T get() throws IOException;
+	}
+
+	private static class DatabaseContent {
+
+		private final TestRunData testRunData = new TestRunData();
+		private int numberOfRecords = 0;
+		private boolean hasInvalidRecords = false;
+		private boolean hasUnknownFormat = false;
+
+		private static DatabaseContent empty() {
+			return new DatabaseContent();
+		}
+
+		private static DatabaseContent unknownFormat() {
+			DatabaseContent content = new DatabaseContent();
+			content.hasUnknownFormat = true;
+			return content;
+		}
+
+		/**
+		 * Compaction recreates a database in unknown format and removes corrupt or incomplete records.
+		 */
+		private boolean needsCompaction() {
+			if (hasUnknownFormat || hasInvalidRecords) {
+				return true;
+			}
+			long numberOfFailingRuns = testRunData.allNonSuccessfulTests().count();
+			long obsoleteRecords = numberOfRecords - numberOfFailingRuns;
+			return obsoleteRecords >= MIN_OBSOLETE_RECORDS_FOR_COMPACTION && obsoleteRecords > numberOfFailingRuns;
+		}
 	}
 }
@@ -0,0 +1,158 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.logging.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.execution.*;
+
+/**
+ * Binary format of the test run database:
+ *
+ * <pre>
+ * database := header record*
+ * header   := 'J' 'Q' 'D' 'B' version:short
+ * record   := length:int uniqueId:string status:byte generationInfo
+ * generationInfo := randomSeed:string generationIndex:int count:int (length:int statusOrdinal:byte*){count}
+ * string   := length:int utf8Bytes
+ * </pre>
+ *
+ * The record's length does not include the length field itself.
+ * An empty random seed string stands for no random seed.
+ */
+class TestRunRecords {
+
+	private static final Logger LOG = Logger.getLogger(TestRunRecords.class.getName());
+
+	private static final byte[] MAGIC = {'J', 'Q', 'D', 'B'};
+
+	static final short FORMAT_VERSION = 1;
+	static final int HEADER_LENGTH = MAGIC.length + Short.BYTES;
+
+	private TestRunRecords() {
+	}
+
+	static void writeHeader(DataOutput output) throws IOException {
+		output.write(MAGIC);
+		output.writeShort(FORMAT_VERSION);
+	}
+
+	static boolean hasCurrentHeader(byte[] content) {
+		if (content.length < HEADER_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < MAGIC.length; i++) {
+			if (content[i] != MAGIC[i]) {
+				return false;
+			}
+		}
+		return ByteBuffer.wrap(content, MAGIC.length, Short.BYTES).getShort() == FORMAT_VERSION;
+	}
+
+	static void writeRecord(DataOutput output, TestRun testRun) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(bytes);
+		writeString(payload, testRun.uniqueIdString());
+		payload.writeByte(testRun.statusOrdinal());
+		writeGenerationInfo(payload, testRun.generationInfo());
+		payload.flush();
+
+		output.writeInt(bytes.size());
+		output.write(bytes.toByteArray());
+	}
+
+	private static void writeGenerationInfo(DataOutput output, GenerationInfo generationInfo) throws IOException {
+		writeString(output, generationInfo.randomSeed().orElse(""));
+		output.writeInt(generationInfo.generationIndex());
+		List<List<TryExecutionResult.Status>> shrinkingSequences = generationInfo.shrinkingSequences();
+		output.writeInt(shrinkingSequences.size());
+		for (List<TryExecutionResult.Status> sequence : shrinkingSequences) {
+			output.writeInt(sequence.size());
+			for (TryExecutionResult.Status status : sequence) {
+				output.writeByte(status.ordinal());
+			}
+		}
+	}
+
+	private static void writeString(DataOutput output, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Read the unique id and status of the record starting at {@code buffer}'s current position.
+	 * Generation info is decoded lazily from {@code content} when it is first accessed.
+	 * Afterwards the buffer is positioned at the start of the next record - even if the record is corrupt.
+	 *
+	 * @return the record's test run or {@code null} if the remaining content does not hold a complete record
+	 * @throws RuntimeException if unique id or status of the record cannot be decoded
+	 */
+	static TestRun readRecord(byte[] content, ByteBuffer buffer) {
+		if (buffer.remaining() < Integer.BYTES) {
+			return null;
+		}
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			return null;
+		}
+		int recordEnd = buffer.position() + length;
+		ByteBuffer record = ByteBuffer.wrap(content, buffer.position(), length);
+		buffer.position(recordEnd);
+		String uniqueIdString = readString(record);
+		int statusOrdinal = record.get();
+		if (statusOrdinal < 0 || statusOrdinal >= Status.values().length) {
+			throw new IllegalStateException(String.format("Invalid status ordinal [%s]", statusOrdinal));
+		}
+		int generationInfoStart = record.position();
+		return new TestRun(
+			uniqueIdString,
+			statusOrdinal,
+			() -> readGenerationInfo(uniqueIdString, ByteBuffer.wrap(content, generationInfoStart, recordEnd - generationInfoStart))
+		);
+	}
+
+	private static GenerationInfo readGenerationInfo(String uniqueIdString, ByteBuffer buffer) {
+		try {
+			return readGenerationInfo(buffer);
+		} catch (RuntimeException e) {
+			// A corrupt record should not stop the test run
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot read generation info of [%s]", uniqueIdString));
+			return GenerationInfo.NULL;
+		}
+	}
+
+	private static GenerationInfo readGenerationInfo(ByteBuffer buffer) {
+		String randomSeed = readString(buffer);
+		int generationIndex = buffer.getInt();
+		GenerationInfo generationInfo = new GenerationInfo(randomSeed, generationIndex);
+		int numberOfSequences = buffer.getInt();
+		TryExecutionResult.Status[] statusValues = TryExecutionResult.Status.values();
+		for (int i = 0; i < numberOfSequences; i++) {
+			int size = buffer.getInt();
+			if (size < 0 || size > buffer.remaining()) {
+				throw new IllegalStateException(String.format("Invalid shrinking sequence size [%s]", size));
+			}
+			List<TryExecutionResult.Status> sequence = new ArrayList<>(size);
+			for (int j = 0; j < size; j++) {
+				sequence.add(statusValues[buffer.get()]);
+			}
+			generationInfo = generationInfo.appendShrinkingSequence(sequence);
+		}
+		return generationInfo;
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalStateException(String.format("Invalid string length [%s]", length));
+		}
+		String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + length);
+		return string;
+	}
+}
@@ -19,6 +19,10 @@ public class Combinatorics {
 		return new CombinedIterator<>(listOfIterables);
 	}
 
+	public static <T> List<List<T>> combinePairwise(List<List<T>> lists) {
+		return PairwiseCombinations.combine(lists);
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> Iterator<List<T>> emptyListSingleton() {
 		return asList((List<T>) new ArrayList<>()).iterator();
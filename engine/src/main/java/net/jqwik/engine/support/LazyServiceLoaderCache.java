@@ -9,19 +9,23 @@ public class LazyServiceLoaderCache<S> {
 
 	private final Class<S> clz;
 	private List<S> services;
+	private volatile boolean loaded = false;
 
 	public LazyServiceLoaderCache(Class<S> clz) {
 		this.clz = clz;
 	}
 
 	public List<S> getServices() {
-		if (services == null) {
+		if (!loaded) {
 			loadServices();
 		}
 		return services;
 	}
 
 	private synchronized void loadServices() {
+		if (services != null) {
+			return;
+		}
 		services = new CopyOnWriteArrayList<>();
 		try {
 			for (S s : ServiceLoader.load(clz)) {
@@ -34,6 +38,8 @@ public class LazyServiceLoaderCache<S> {
 					serviceConfigurationError.getMessage()
 			);
 			LOG.log(Level.SEVERE, message);
+		} finally {
+			loaded = true;
 		}
 	}
 }
@@ -0,0 +1,89 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+
+/**
+ * Base class for sources of randomness that derive all values from {@linkplain #nextLong()}.
+ * Every value drawn through {@linkplain #next(int)}, {@linkplain #nextInt(int)}, {@linkplain #nextLong(long)}
+ * or {@linkplain #nextDouble()} usually uses up a single long; only bounded values that fall into
+ * the biased remainder are drawn again.
+ *
+ * <p>
+ * Bounded and floating point values are taken from the low bits of a long
+ * so that smaller longs result in smaller values.
+ * </p>
+ */
+public abstract class LongBasedRandom extends Random {
+
+	private static final long DOUBLE_MASK = (1L << 53) - 1;
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	@Override
+	public abstract long nextLong();
+
+	@Override
+	protected final int next(int bits) {
+		return (int) (nextLong() & ((1L << bits) - 1));
+	}
+
+	/**
+	 * Uses multiplication instead of division to map a random int into {@code [0, bound)}.
+	 * The random int is mirrored before and the result after the mapping. This keeps the mapping uniform
+	 * and monotonic but moves the rejected draws to the top of the int range:
+	 * A draw of 0 always results in 0, which is essential when replaying a sequence of zeros during shrinking.
+	 *
+	 * See: Daniel Lemire, Fast Random Integer Generation in an Interval, https://arxiv.org/abs/1805.10941
+	 */
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		long product = (~nextLong() & 0xFFFFFFFFL) * bound;
+		long low = product & 0xFFFFFFFFL;
+		if (low < bound) {
+			long threshold = (0x100000000L - bound) % bound;
+			while (low < threshold) {
+				product = (~nextLong() & 0xFFFFFFFFL) * bound;
+				low = product & 0xFFFFFFFFL;
+			}
+		}
+		return bound - 1 - (int) (product >>> 32);
+	}
+
+	/**
+	 * @return a long value in {@code [0, bound)}
+	 */
+	public long nextLong(long bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		long mask = bound - 1;
+		if ((bound & mask) == 0L) {
+			return nextLong() & mask;
+		}
+		long random = nextLong() & Long.MAX_VALUE;
+		long value = random % bound;
+		while (random - value + mask < 0L) {
+			random = nextLong() & Long.MAX_VALUE;
+			value = random % bound;
+		}
+		return value;
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() & DOUBLE_MASK) * DOUBLE_UNIT;
+	}
+
+	@Override
+	public void nextBytes(byte[] bytes) {
+		int i = 0;
+		while (i < bytes.length) {
+			long random = nextLong();
+			for (int n = Math.min(bytes.length - i, Long.BYTES); n-- > 0; random >>>= Byte.SIZE) {
+				bytes[i++] = (byte) random;
+			}
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package net.jqwik.engine.support.combinatorics;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Creates combinations of values so that each value of a list is combined with each value
+ * of every other list at least once. For three or more lists this usually requires far fewer
+ * combinations than the full cartesian product.
+ *
+ * <p>
+ * Combinations are built in parameter order: Start with all combinations of the two largest lists,
+ * then extend each combination with the value of the next list that covers most missing pairs,
+ * and finally add combinations for pairs that are still missing.
+ * </p>
+ *
+ * See: Lei et al., IPOG: A General Strategy for T-Way Software Testing
+ */
+public class PairwiseCombinations {
+
+	private static final int ANY = -1;
+
+	public static <T> List<List<T>> combine(List<List<T>> lists) {
+		int[] sizes = lists.stream().mapToInt(List::size).toArray();
+		List<List<T>> combinations = new ArrayList<>();
+		for (int[] indices : indexCombinations(sizes)) {
+			List<T> combination = new ArrayList<>(indices.length);
+			for (int i = 0; i < indices.length; i++) {
+				combination.add(lists.get(i).get(indices[i]));
+			}
+			combinations.add(combination);
+		}
+		return combinations;
+	}
+
+	static List<int[]> indexCombinations(int[] sizes) {
+		if (Arrays.stream(sizes).anyMatch(size -> size == 0)) {
+			return Collections.emptyList();
+		}
+		// Starting with the largest lists usually results in fewer combinations
+		int[] order = IntStream.range(0, sizes.length)
+							   .boxed()
+							   .sorted(Comparator.comparing((Integer index) -> sizes[index]).reversed())
+							   .mapToInt(Integer::intValue)
+							   .toArray();
+		int[] orderedSizes = Arrays.stream(order).map(index -> sizes[index]).toArray();
+
+		List<int[]> rows = initialRows(orderedSizes);
+		for (int k = 2; k < orderedSizes.length; k++) {
+			extend(rows, orderedSizes, k);
+		}
+
+		List<int[]> combinations = new ArrayList<>(rows.size());
+		for (int r = 0; r < rows.size(); r++) {
+			int[] row = rows.get(r);
+			int[] combination = new int[sizes.length];
+			for (int i = 0; i < order.length; i++) {
+				// Positions that do not matter for any pair are varied to cover a few more combinations
+				combination[order[i]] = row[i] == ANY ? r % orderedSizes[i] : row[i];
+			}
+			combinations.add(combination);
+		}
+		return combinations;
+	}
+
+	private static List<int[]> initialRows(int[] sizes) {
+		List<int[]> rows = new ArrayList<>();
+		if (sizes.length == 0) {
+			rows.add(new int[0]);
+			return rows;
+		}
+		int secondSize = sizes.length > 1 ? sizes[1] : 1;
+		for (int first = 0; first < sizes[0]; first++) {
+			for (int second = 0; second < secondSize; second++) {
+				int[] row = new int[sizes.length];
+				Arrays.fill(row, ANY);
+				row[0] = first;
+				if (sizes.length > 1) {
+					row[1] = second;
+				}
+				rows.add(row);
+			}
+		}
+		return rows;
+	}
+
+	private static void extend(List<int[]> rows, int[] sizes, int k) {
+		boolean[][][] missing = new boolean[k][][];
+		for (int i = 0; i < k; i++) {
+			missing[i] = new boolean[sizes[i]][sizes[k]];
+			for (boolean[] pairs : missing[i]) {
+				Arrays.fill(pairs, true);
+			}
+		}
+
+		// Horizontal growth: choose the value for position k that covers most missing pairs
+		for (int[] row : rows) {
+			int bestValue = 0;
+			int bestCovered = -1;
+			for (int value = 0; value < sizes[k]; value++) {
+				int covered = 0;
+				for (int i = 0; i < k; i++) {
+					if (row[i] != ANY && missing[i][row[i]][value]) {
+						covered++;
+					}
+				}
+				if (covered > bestCovered) {
+					bestValue = value;
+					bestCovered = covered;
+				}
+			}
+			row[k] = bestValue;
+			for (int i = 0; i < k; i++) {
+				if (row[i] != ANY) {
+					missing[i][row[i]][bestValue] = false;
+				}
+			}
+		}
+
+		// Vertical growth: fill in a free position of an existing row or add a new one
+		for (int i = 0; i < k; i++) {
+			for (int u = 0; u < sizes[i]; u++) {
+				for (int v = 0; v < sizes[k]; v++) {
+					if (missing[i][u][v]) {
+						coverPair(rows, i, u, k, v);
+					}
+				}
+			}
+		}
+	}
+
+	private static void coverPair(List<int[]> rows, int i, int u, int k, int v) {
+		for (int[] row : rows) {
+			if (row[k] == v && row[i] == ANY) {
+				row[i] = u;
+				return;
+			}
+		}
+		int[] row = new int[rows.get(0).length];
+		Arrays.fill(row, ANY);
+		row[i] = u;
+		row[k] = v;
+		rows.add(row);
+	}
+}
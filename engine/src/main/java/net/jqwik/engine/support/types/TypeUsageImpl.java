@@ -713,6 +713,10 @@ public class TypeUsageImpl implements TypeUsage, Cloneable {
 		return Optional.ofNullable(metaInfo.get(key));
 	}
 
+	public boolean hasMetaInfo() {
+		return !metaInfo.isEmpty();
+	}
+
 	@Override
 	public TypeUsage withMetaInfo(String key, Object value) {
 		return cloneWith(t -> {
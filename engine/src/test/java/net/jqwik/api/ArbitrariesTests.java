@@ -779,6 +779,66 @@ class ArbitrariesTests {
 				min, max
 			);
 		}
+
+		@Group
+		class MultipleOf {
+
+			@Example
+			void onlyMultiplesAreGenerated(@ForAll Random random) {
+				RandomGenerator<Integer> generator = Arbitraries.integers().between(-100, 100).multipleOf(7).generator(1000, true);
+
+				checkAllGenerated(generator, random, value -> value % 7 == 0 && value >= -98 && value <= 98);
+				assertAtLeastOneGeneratedOf(generator, random, -98, -7, 0, 7, 98);
+			}
+
+			@Example
+			void multiplesOfAllIntegralTypes(@ForAll Random random) {
+				checkAllGenerated(Arbitraries.longs().multipleOf(1000L).generator(1000), random, value -> value % 1000L == 0);
+				checkAllGenerated(Arbitraries.shorts().multipleOf((short) 3).generator(1000), random, value -> value % 3 == 0);
+				checkAllGenerated(Arbitraries.bytes().multipleOf(10).generator(1000), random, value -> value % 10 == 0);
+				checkAllGenerated(
+					Arbitraries.bigIntegers().between(valueOf(-1000), valueOf(1000)).multipleOf(valueOf(4)).generator(1000),
+					random,
+					value -> value.mod(valueOf(4)).equals(ZERO)
+				);
+			}
+
+			@Example
+			void shrinkToSmallestMultipleWithinBounds(@ForAll Random random) {
+				Arbitrary<Integer> multiples = Arbitraries.integers().between(10, 1000).multipleOf(7);
+				TestingFalsifier<Integer> falsifier = value -> value < 100;
+				int shrunkValue = ShrinkingSupport.falsifyThenShrink(multiples, random, falsifier);
+				assertThat(shrunkValue).isEqualTo(105);
+			}
+
+			@Example
+			void edgeCasesAreMultiples() {
+				Arbitrary<Long> multiples = Arbitraries.longs().between(-95L, 1000L).multipleOf(10L);
+				Set<Long> edgeCases = collectEdgeCaseValues(multiples.edgeCases());
+				assertThat(edgeCases).allMatch(value -> value % 10 == 0);
+				assertThat(edgeCases).contains(-90L, 0L, 1000L);
+			}
+
+			@Example
+			void exhaustiveGenerationEnumeratesMultiplesOnly() {
+				Optional<ExhaustiveGenerator<Integer>> exhaustive = Arbitraries.integers().between(1, 21).multipleOf(5).exhaustive();
+				assertThat(exhaustive).hasValueSatisfying(
+					generator -> assertThat(generator).containsExactly(5, 10, 15, 20)
+				);
+			}
+
+			@Example
+			void multipleOfMustBePositive() {
+				assertThatThrownBy(() -> Arbitraries.integers().multipleOf(0)).isInstanceOf(IllegalArgumentException.class);
+				assertThatThrownBy(() -> Arbitraries.longs().multipleOf(-2L)).isInstanceOf(IllegalArgumentException.class);
+			}
+
+			@Example
+			void failsIfThereIsNoMultipleWithinBounds() {
+				IntegerArbitrary noMultiples = Arbitraries.integers().between(1, 4).multipleOf(5);
+				assertThatThrownBy(() -> noMultiples.generator(1000)).isInstanceOf(IllegalArgumentException.class);
+			}
+		}
 	}
 
 	@Group
@@ -116,6 +116,32 @@ class ArrayArbitraryTests {
 		assertThat(actual).isSubsetOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
 	}
 
+	@Example
+	void arrayOfPrimitiveLongs(@ForAll Random random) {
+		Arbitrary<Long> longArbitrary = Arbitraries.longs().between(-10L, 10L);
+		ArrayArbitrary<Long, long[]> arrayArbitrary = longArbitrary.array(long[].class).ofMinSize(1).ofMaxSize(5);
+
+		RandomGenerator<long[]> generator = arrayArbitrary.generator(1, true);
+
+		assertAllGenerated(generator, random, array -> {
+			assertThat(array.length).isBetween(1, 5);
+			assertThat(LongStream.of(array)).allMatch(element -> element >= -10L && element <= 10L);
+		});
+	}
+
+	@Example
+	void reduceArrayOfPrimitiveType(@ForAll Random random) {
+		Arbitrary<Integer> sums =
+			Arbitraries.integers().between(1, 5).array(int[].class).ofMinSize(1).ofMaxSize(10)
+					   .reduce(0, Integer::sum);
+
+		RandomGenerator<Integer> generator = sums.generator(1000, true);
+
+		assertAllGenerated(generator, random, sum -> {
+			assertThat(sum).isBetween(1, 50);
+		});
+	}
+
 	@Example
 	void uniquenessConstraint(@ForAll Random random) {
 		ArrayArbitrary<Integer, Integer[]> listArbitrary =
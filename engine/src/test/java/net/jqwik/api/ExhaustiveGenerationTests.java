@@ -566,6 +566,67 @@ class ExhaustiveGenerationTests {
 
 	}
 
+	@Group
+	class RandomAccess {
+
+		@Example
+		void values() {
+			assertSameValuesByIndex(Arbitraries.of("a", "b", "c").exhaustive().get());
+			assertSameValuesByIndex(Arbitraries.of(RoundingMode.class).exhaustive().get());
+		}
+
+		@Example
+		void integralsAndChars() {
+			assertSameValuesByIndex(Arbitraries.integers().between(-5, 5).exhaustive().get());
+			assertSameValuesByIndex(Arbitraries.bytes().exhaustive().get());
+			assertSameValuesByIndex(Arbitraries.chars().range('a', 'z').exhaustive().get());
+		}
+
+		@Example
+		void mappedAndWithNull() {
+			assertSameValuesByIndex(Arbitraries.integers().between(1, 5).map(i -> i * 2).exhaustive().get());
+			assertSameValuesByIndex(Arbitraries.of("abc", "def").injectNull(0.5).exhaustive().get());
+		}
+
+		@Example
+		void oneOf() {
+			assertSameValuesByIndex(Arbitraries.oneOf(Arbitraries.integers().between(1, 3), Arbitraries.integers().between(7, 9)).exhaustive().get());
+			assertSameValuesByIndex(Arbitraries.chars().range('a', 'c').range('x', 'z').exhaustive().get());
+		}
+
+		@Example
+		void combinations() {
+			Arbitrary<String> combined = Combinators.combine(
+				Arbitraries.integers().between(1, 3),
+				Arbitraries.of(RoundingMode.class),
+				Arbitraries.chars().range('a', 'c')
+			).as((i, m, c) -> i + ":" + m + ":" + c);
+			assertSameValuesByIndex(combined.exhaustive().get());
+		}
+
+		@Example
+		void listsAndStrings() {
+			assertSameValuesByIndex(Arbitraries.integers().between(1, 3).list().ofMinSize(0).ofMaxSize(3).exhaustive().get());
+			assertSameValuesByIndex(Arbitraries.strings().numeric().ofMinLength(1).ofMaxLength(3).exhaustive().get());
+		}
+
+		@Example
+		void filteredValuesCannotBeAccessedByIndex() {
+			ExhaustiveGenerator<Integer> generator = Arbitraries.integers().between(-5, 5).filter(i -> i % 2 == 0).exhaustive().get();
+			assertThat(generator.isRandomAccess()).isFalse();
+			assertThatThrownBy(() -> generator.get(0)).isInstanceOf(UnsupportedOperationException.class);
+		}
+
+		private <T> void assertSameValuesByIndex(ExhaustiveGenerator<T> generator) {
+			assertThat(generator.isRandomAccess()).isTrue();
+			List<T> valuesByIndex = new ArrayList<>();
+			for (long index = 0; index < generator.maxCount(); index++) {
+				valuesByIndex.add(generator.get(index));
+			}
+			assertThat(valuesByIndex).containsExactlyElementsOf(generator);
+		}
+	}
+
 	static class AdditionBuilder {
 
 		private final List<Integer> numbers = new ArrayList<>();
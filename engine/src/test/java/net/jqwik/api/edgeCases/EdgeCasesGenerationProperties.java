@@ -124,6 +124,36 @@ class EdgeCasesGenerationProperties {
 		}
 	}
 
+	@Property(tries = 15, generation = GenerationMode.RANDOMIZED, edgeCases = EdgeCasesMode.PAIRWISE)
+	@PerProperty(CheckPairsOfEdgeCasesFirst.class)
+	void threeIntsPairwise(
+		@ForAll @IntRange(min = -1, max = 1) int int1,
+		@ForAll @IntRange(min = -1, max = 1) int int2,
+		@ForAll @IntRange(min = -1, max = 1) int int3
+	) {
+		generated.add(asList(int1, int2, int3));
+	}
+
+	private class CheckPairsOfEdgeCasesFirst implements PerProperty.Lifecycle {
+		@Override
+		public void onSuccess() {
+			List<Integer> edgeCases = asList(-1, 0, 1);
+			// Far fewer than all 27 combinations are needed to cover all pairs
+			List<List<Object>> pairwise = generated(12);
+			for (int first = 0; first < 3; first++) {
+				for (int second = first + 1; second < 3; second++) {
+					int i = first;
+					int j = second;
+					for (int left : edgeCases) {
+						for (int right : edgeCases) {
+							assertThat(pairwise).anyMatch(ints -> ints.get(i).equals(left) && ints.get(j).equals(right));
+						}
+					}
+				}
+			}
+		}
+	}
+
 	@Property(tries = 1000, edgeCases = EdgeCasesMode.MIXIN)
 	@PerProperty(CheckCombinationsIntEvenInt.class)
 	void edgeCasesFromFilteredInt(
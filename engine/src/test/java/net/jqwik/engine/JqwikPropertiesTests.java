@@ -5,6 +5,7 @@ import java.util.*;
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -51,6 +52,15 @@ class JqwikPropertiesTests {
 
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
 
+		assertThat(properties.lazyShrinkables()).isEqualTo(false);
+
+		assertThat(properties.choiceSequenceShrinking()).isEqualTo(false);
+
+		assertThat(properties.shrinkingParallelism()).isEqualTo(1);
+
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.discoveryCache()).isEqualTo(false);
+		assertThat(properties.exhaustiveShard()).isEqualTo(ExhaustiveShard.ALL);
 	}
 }
@@ -0,0 +1,116 @@
+package net.jqwik.engine;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.support.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceOfRandomnessTests {
+
+	@Example
+	void randomCreatedFromStateContinuesWithSameValues(@ForAll long seed) {
+		Assume.that(seed != 0L);
+		Random random = SourceOfRandomness.newRandom(seed);
+		// Leaves a second gaussian value pending
+		random.nextGaussian();
+
+		Random copy = SourceOfRandomness.stateOf(random).get().newRandom();
+		for (int i = 0; i < 10; i++) {
+			assertThat(copy.nextGaussian()).isEqualTo(random.nextGaussian());
+			assertThat(copy.nextLong()).isEqualTo(random.nextLong());
+		}
+		assertThat(SourceOfRandomness.stateOf(copy)).isEqualTo(SourceOfRandomness.stateOf(random));
+	}
+
+	@Example
+	void stateOfOtherRandomsCannotBeCaptured() {
+		assertThat(SourceOfRandomness.stateOf(new Random(42L))).isEmpty();
+	}
+
+	@Property(tries = 100)
+	void boundedValuesAreWithinBounds(@ForAll long seed, @ForAll @Positive int intBound, @ForAll @Positive long longBound) {
+		Assume.that(seed != 0L);
+		LongBasedRandom random = (LongBasedRandom) SourceOfRandomness.newRandom(seed);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextInt(intBound)).isBetween(0, intBound - 1);
+			assertThat(random.nextLong(longBound)).isBetween(0L, longBound - 1);
+			assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+		}
+	}
+
+	@Example
+	void nextBytesUsesOneLongForEightBytes() {
+		Random random = SourceOfRandomness.newRandom(42L);
+		Random copy = SourceOfRandomness.stateOf(random).get().newRandom();
+
+		byte[] bytes = new byte[10];
+		random.nextBytes(bytes);
+
+		long first = copy.nextLong();
+		long second = copy.nextLong();
+		assertThat(bytes[0]).isEqualTo((byte) first);
+		assertThat(bytes[7]).isEqualTo((byte) (first >>> 56));
+		assertThat(bytes[8]).isEqualTo((byte) second);
+		assertThat(random.nextLong()).isEqualTo(copy.nextLong());
+	}
+
+	@Example
+	void allValuesAreDistributedOverBound() {
+		Random random = SourceOfRandomness.newRandom(42L);
+		int[] counts = new int[7];
+		for (int i = 0; i < 7000; i++) {
+			counts[random.nextInt(7)]++;
+		}
+		for (int count : counts) {
+			assertThat(count).isBetween(800, 1200);
+		}
+	}
+
+	@Example
+	void choiceSequenceRandomDerivesSameValues() {
+		Random random = SourceOfRandomness.newRandom(42L);
+		Random copy = SourceOfRandomness.stateOf(random).get().newRandom();
+		ChoiceSequenceRandom recording = ChoiceSequenceRandom.recording(copy);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(recording.nextInt(1000)).isEqualTo(random.nextInt(1000));
+			assertThat(recording.nextDouble()).isEqualTo(random.nextDouble());
+			assertThat(recording.nextLong(1000L)).isEqualTo(((LongBasedRandom) random).nextLong(1000L));
+		}
+	}
+
+	@Example
+	void replayingZerosAlwaysResultsInZero() {
+		assertThat(ChoiceSequenceRandom.replaying(new long[0]).nextInt(3)).isEqualTo(0);
+		assertThat(ChoiceSequenceRandom.replaying(new long[]{0L, 0L}).nextInt(3)).isEqualTo(0);
+		assertThat(ChoiceSequenceRandom.replaying(new long[0]).nextLong(3L)).isEqualTo(0L);
+		assertThat(ChoiceSequenceRandom.replaying(new long[0]).nextInt(Integer.MAX_VALUE)).isEqualTo(0);
+	}
+
+	@Example
+	void smallerChoicesResultInSmallerBoundedInts() {
+		int previous = 0;
+		for (long choice = 0; choice < 0x100000000L; choice += 0x1000000L) {
+			int value = ChoiceSequenceRandom.replaying(new long[]{choice}).nextInt(7);
+			assertThat(value).isGreaterThanOrEqualTo(previous);
+			previous = value;
+		}
+		assertThat(previous).isEqualTo(6);
+	}
+
+	@Example
+	void replayStopsAfterMaxChoices() {
+		ChoiceSequenceRandom random = ChoiceSequenceRandom.replaying(new long[0], 2);
+		random.nextLong();
+		random.nextLong();
+		assertThatThrownBy(random::nextLong).isInstanceOf(TooManyChoicesException.class);
+
+		// Drawing gaussians from zeros would never end otherwise
+		assertThatThrownBy(() -> ChoiceSequenceRandom.replaying(new long[0], 100).nextGaussian())
+			.isInstanceOf(TooManyChoicesException.class);
+	}
+}
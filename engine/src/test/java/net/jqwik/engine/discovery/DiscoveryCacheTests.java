@@ -0,0 +1,124 @@
+package net.jqwik.engine.discovery;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import examples.packageWithSingleContainer.*;
+import org.junit.platform.engine.*;
+import org.junit.platform.launcher.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.recording.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.*;
+
+@SuppressLogging
+class DiscoveryCacheTests {
+
+	private Path cachePath;
+
+	@BeforeProperty
+	void createCachePath() throws IOException {
+		Path directory = Files.createTempDirectory("jqwik");
+		cachePath = directory.resolve(".jqwik-database.discovery");
+	}
+
+	@AfterProperty
+	void deleteCache() throws IOException {
+		Files.deleteIfExists(cachePath);
+		Files.deleteIfExists(cachePath.getParent());
+	}
+
+	@Example
+	void classesWithoutTestsAreKnownInNextRun() {
+		DiscoveryCache cache = DiscoveryCache.load(cachePath);
+		assertThat(cache.mightBeTestContainer(ClassWithoutTests.class.getName())).isTrue();
+		cache.record(ClassWithoutTests.class, false);
+		cache.record(SimpleExampleTests.class, true);
+		cache.save();
+
+		DiscoveryCache nextRun = DiscoveryCache.load(cachePath);
+		assertThat(nextRun.mightBeTestContainer(ClassWithoutTests.class.getName())).isFalse();
+		assertThat(nextRun.mightBeTestContainer(SimpleExampleTests.class.getName())).isTrue();
+		assertThat(nextRun.mightBeTestContainer("unknown.Class")).isTrue();
+	}
+
+	@Example
+	void classThatBecameATestContainerIsRemoved() {
+		DiscoveryCache cache = DiscoveryCache.load(cachePath);
+		cache.record(ClassWithoutTests.class, false);
+		cache.save();
+
+		DiscoveryCache nextRun = DiscoveryCache.load(cachePath);
+		nextRun.record(ClassWithoutTests.class, true);
+		nextRun.save();
+
+		assertThat(DiscoveryCache.load(cachePath).mightBeTestContainer(ClassWithoutTests.class.getName())).isTrue();
+	}
+
+	@Example
+	void savingLeavesTemporaryFilesOfOtherProcessesAlone() throws IOException {
+		Path otherProcessesFile = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+		Files.write(otherProcessesFile, new byte[]{1, 2, 3});
+		try {
+			DiscoveryCache cache = DiscoveryCache.load(cachePath);
+			cache.record(ClassWithoutTests.class, false);
+			cache.save();
+
+			try (Stream<Path> files = Files.list(cachePath.getParent())) {
+				assertThat(files).containsExactlyInAnyOrder(cachePath, otherProcessesFile);
+			}
+		} finally {
+			Files.deleteIfExists(otherProcessesFile);
+		}
+	}
+
+	@Example
+	void unreadableCacheIsIgnored() throws IOException {
+		Files.write(cachePath, new byte[]{1, 2, 3});
+
+		DiscoveryCache cache = DiscoveryCache.load(cachePath);
+		assertThat(cache.mightBeTestContainer(ClassWithoutTests.class.getName())).isTrue();
+	}
+
+	@Example
+	void noneCachesNothing() {
+		DiscoveryCache.NONE.record(ClassWithoutTests.class, false);
+		assertThat(DiscoveryCache.NONE.mightBeTestContainer(ClassWithoutTests.class.getName())).isTrue();
+	}
+
+	@Example
+	void discoveryWithCacheFindsSameTests() {
+		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectPackage("examples.packageWithSingleContainer")).build();
+
+		TestDescriptor firstRun = discoverTests(discoveryRequest, DiscoveryCache.load(cachePath));
+		DiscoveryCache cache = DiscoveryCache.load(cachePath);
+		TestDescriptor secondRun = discoverTests(discoveryRequest, cache);
+
+		assertThat(countProperties(secondRun)).isEqualTo(countProperties(firstRun)).isEqualTo(4);
+		assertThat(cache.mightBeTestContainer(ClassWithoutTests.class.getName())).isFalse();
+	}
+
+	private TestDescriptor discoverTests(LauncherDiscoveryRequest discoveryRequest, DiscoveryCache cache) {
+		JqwikEngineDescriptor engineDescriptor = new JqwikEngineDescriptor(UniqueId.forEngine(JqwikTestEngine.ENGINE_ID), null);
+		new JqwikDiscoverer(new TestRunData(), TestHelper.propertyAttributesDefaults(), cache).discover(discoveryRequest, engineDescriptor);
+		return engineDescriptor;
+	}
+
+	private int countProperties(TestDescriptor root) {
+		AtomicInteger counter = new AtomicInteger();
+		root.accept(descriptor -> {
+			if (descriptor instanceof PropertyMethodDescriptor)
+				counter.incrementAndGet();
+		});
+		return counter.intValue();
+	}
+}
@@ -1,13 +1,19 @@
 package net.jqwik.engine.execution;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
 import org.mockito.*;
 
 import net.jqwik.*;
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -115,4 +121,197 @@ class ExecutionPipelineTests {
 
 	}
 
+	@Group
+	class InParallel {
+
+		private final List<String> events = new CopyOnWriteArrayList<>();
+		private final ExecutionPipeline parallelPipeline = new ExecutionPipeline(listener, 4);
+
+		@Example
+		void allTasksAreExecuted() {
+			List<ExecutionTask> tasks = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				tasks.add(new RecordingTask(Integer.toString(i)));
+			}
+			tasks.forEach(t -> parallelPipeline.submit(t));
+			parallelPipeline.runToTermination();
+
+			assertThat(events).filteredOn(e -> e.startsWith("finish")).hasSize(20);
+		}
+
+		@Example
+		void tasksAreOnlyStartedAfterAllPredecessorsHaveFinished() {
+			RecordingTask prepare = new RecordingTask("prepare");
+			RecordingTask child1 = new RecordingTask("child1");
+			RecordingTask child2 = new RecordingTask("child2");
+			RecordingTask child3 = new RecordingTask("child3");
+			RecordingTask finish = new RecordingTask("finish");
+			parallelPipeline.submit(prepare);
+			parallelPipeline.submit(child1, prepare);
+			parallelPipeline.submit(child2, prepare);
+			parallelPipeline.submit(child3, prepare);
+			parallelPipeline.submit(finish, child1, child2, child3);
+			parallelPipeline.runToTermination();
+
+			assertThat(events.indexOf("finish prepare")).isLessThan(events.indexOf("start child1"));
+			assertThat(events.indexOf("finish prepare")).isLessThan(events.indexOf("start child2"));
+			assertThat(events.indexOf("finish prepare")).isLessThan(events.indexOf("start child3"));
+			assertThat(events.indexOf("start finish")).isGreaterThan(events.indexOf("finish child1"));
+			assertThat(events.indexOf("start finish")).isGreaterThan(events.indexOf("finish child2"));
+			assertThat(events.indexOf("start finish")).isGreaterThan(events.indexOf("finish child3"));
+		}
+
+		@Example
+		void failedPredecessorResultIsHandedToSuccessors() {
+			RecordingTask prepare = new RecordingTask("prepare", TaskExecutionResult.failure(new RuntimeException("failed")));
+			RecordingTask child = new RecordingTask("child");
+			parallelPipeline.submit(prepare);
+			parallelPipeline.submit(child, prepare);
+			parallelPipeline.runToTermination();
+
+			assertThat(child.predecessorResult.successful()).isFalse();
+		}
+
+		@Example
+		void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+			RecordingTask task1 = new RecordingTask("1");
+			RecordingTask task2 = new RecordingTask("2");
+			parallelPipeline.submit(task1, task2);
+
+			assertThatThrownBy(() -> parallelPipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+		}
+
+		@Example
+		void containersAreOnlyFinishedAfterAllNestedContainers() {
+			TestDescriptor engineDescriptor = TestDescriptorBuilder.forEngine(new JqwikTestEngine()).with(
+				TestDescriptorBuilder.forClass(Outer.class, "outerProperty").with(
+					TestDescriptorBuilder.forClass(Outer.Middle.class, "middleProperty").with(
+						TestDescriptorBuilder.forClass(Outer.Middle.Inner.class, "innerProperty1", "innerProperty2")
+					)
+				)
+			).build();
+			TestDescriptor outer = onlyContainerChild(engineDescriptor);
+			TestDescriptor middle = onlyContainerChild(outer);
+			TestDescriptor inner = onlyContainerChild(middle);
+
+			ExecutionPipeline containerPipeline = new ExecutionPipeline(recordingListener, 4);
+			containerPipeline.submit(createTask(engineDescriptor, containerPipeline, recordingListener));
+			containerPipeline.runToTermination();
+
+			for (TestDescriptor property : inner.getChildren()) {
+				assertThat(finishIndex(inner)).isGreaterThan(finishIndex(property));
+			}
+			assertThat(finishIndex(middle)).isGreaterThan(finishIndex(inner));
+			assertThat(finishIndex(outer)).isGreaterThan(finishIndex(middle));
+			assertThat(finishIndex(engineDescriptor)).isEqualTo(events.size() - 1);
+		}
+
+		private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
+		private final LifecycleHooksRegistry registry = new LifecycleHooksRegistry();
+
+		private final PropertyExecutionListener recordingListener = new PropertyExecutionListener() {
+			@Override
+			public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+			}
+
+			@Override
+			public void executionStarted(TestDescriptor testDescriptor) {
+				events.add("start " + testDescriptor.getUniqueId());
+			}
+
+			@Override
+			public void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+				events.add("finish " + testDescriptor.getUniqueId());
+			}
+
+			@Override
+			public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+			}
+		};
+
+		private ExecutionTask createTask(TestDescriptor descriptor, Pipeline pipeline, PropertyExecutionListener listener) {
+			if (descriptor instanceof PropertyMethodDescriptor) {
+				return ExecutionTask.from(
+					(taskListener, predecessorResult) -> {
+						taskListener.executionStarted(descriptor);
+						// Give containers a chance to finish too early
+						sleep(50);
+						taskListener.executionFinished(descriptor, PlainExecutionResult.successful());
+						return TaskExecutionResult.success();
+					},
+					descriptor,
+					"execute " + descriptor.getDisplayName()
+				);
+			}
+			return containerTaskCreator.createTask(descriptor, this::createTask, pipeline, registry, listener);
+		}
+
+		private TestDescriptor onlyContainerChild(TestDescriptor descriptor) {
+			return descriptor.getChildren().stream()
+							 .filter(child -> child instanceof ContainerClassDescriptor)
+							 .findFirst().get();
+		}
+
+		private int finishIndex(TestDescriptor descriptor) {
+			return events.indexOf("finish " + descriptor.getUniqueId());
+		}
+
+		private void sleep(int millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private class RecordingTask extends MockExecutionTask {
+
+			private final TaskExecutionResult result;
+			private volatile TaskExecutionResult predecessorResult;
+
+			RecordingTask(String name) {
+				this(name, TaskExecutionResult.success());
+			}
+
+			RecordingTask(String name, TaskExecutionResult result) {
+				super(name);
+				this.result = result;
+			}
+
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				this.predecessorResult = predecessorResult;
+				events.add("start " + getDisplayName());
+				events.add("finish " + getDisplayName());
+				return result;
+			}
+		}
+	}
+
+	private static class Outer {
+
+		@Example
+		void outerProperty() {
+		}
+
+		@Group
+		static class Middle {
+
+			@Example
+			void middleProperty() {
+			}
+
+			@Group
+			static class Inner {
+
+				@Example
+				void innerProperty1() {
+				}
+
+				@Example
+				void innerProperty2() {
+				}
+			}
+		}
+	}
 }
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -141,6 +142,53 @@ class StoreRepositoryTests {
 
 	}
 
+	@Group
+	class GetOrCreate {
+
+		@Example
+		void createsStoreInScopeIfNoneIsVisible() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+
+			ScopedStore<String> store = repository.getOrCreate(container, "aString", Lifespan.PROPERTY, () -> "initial");
+
+			assertThat(store.getScope()).isSameAs(container);
+			assertThat(repository.get(container, "aString")).hasValue(store);
+		}
+
+		@Example
+		void returnsStoreVisibleInAncestorScope() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method1 = container.getChildren().iterator().next();
+			ScopedStore<String> store = repository.create(container, "aString", Lifespan.PROPERTY, () -> "initial");
+
+			ScopedStore<String> retrieved = repository.getOrCreate(method1, "aString", Lifespan.PROPERTY, () -> "other");
+
+			assertThat(retrieved).isSameAs(store);
+			assertThat(repository.size()).isEqualTo(1);
+		}
+
+		@Example
+		void concurrentCallsReturnSameStore() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Callable<ScopedStore<String>>> calls = new ArrayList<>();
+				for (int i = 0; i < 20; i++) {
+					calls.add(() -> repository.getOrCreate(container, "aString", Lifespan.PROPERTY, () -> "initial"));
+				}
+				Set<ScopedStore<String>> stores = Collections.newSetFromMap(new IdentityHashMap<>());
+				for (Future<ScopedStore<String>> future : executor.invokeAll(calls)) {
+					stores.add(future.get());
+				}
+				assertThat(stores).hasSize(1);
+				assertThat(repository.size()).isEqualTo(1);
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
 	@Group
 	class Lifecycles_and_Lifespans {
 
@@ -205,6 +253,74 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void propertiesRunningOneAfterTheOtherShareContainerValue() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+
+			ScopedStore<String> store = repository.create(container, "aStore", Lifespan.PROPERTY, () -> "initial");
+			store.update(s -> "fromContainer");
+
+			assertThat(runIn(method1, null, store::get)).isEqualTo("fromContainer");
+			runIn(method1, null, () -> store.update(s -> s + ":method1"));
+			assertThat(runIn(method2, null, store::get)).isEqualTo("fromContainer:method1");
+
+			repository.finishProperty(method1);
+
+			assertThat(store.get()).isEqualTo("initial");
+		}
+
+		@Example
+		void propertiesRunningConcurrentlyHaveSeparateValues() {
+			repository.setPropertiesRunConcurrently(true);
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+
+			ScopedStore<String> store = repository.create(container, "aStore", Lifespan.PROPERTY, () -> "initial");
+			runIn(method1, null, () -> store.update(s -> "method1"));
+			runIn(method2, null, () -> store.update(s -> "method2"));
+
+			store.update(s -> "fromContainer");
+
+			repository.finishProperty(method1);
+
+			assertThat(runIn(method1, null, store::get)).isEqualTo("initial");
+			assertThat(runIn(method2, null, store::get)).isEqualTo("method2");
+			assertThat(store.get()).isEqualTo("fromContainer");
+		}
+
+		@Example
+		void concurrentTriesOfPropertyHaveSeparateValues() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			Object try1 = new Object();
+			Object try2 = new Object();
+
+			ScopedStore<String> store = repository.create(container, "aStore", Lifespan.TRY, () -> "initial");
+			runIn(method, try1, () -> store.update(s -> "try1"));
+			runIn(method, try2, () -> store.update(s -> "try2"));
+
+			runIn(method, try1, () -> repository.finishTry(method));
+
+			assertThat(runIn(method, try1, store::get)).isEqualTo("initial");
+			assertThat(runIn(method, try2, store::get)).isEqualTo("try2");
+		}
+
+		private void runIn(TestDescriptor descriptor, Object tryIdentifier, Runnable runnable) {
+			runIn(descriptor, tryIdentifier, () -> {
+				runnable.run();
+				return null;
+			});
+		}
+
+		private <T> T runIn(TestDescriptor descriptor, Object tryIdentifier, Supplier<T> supplier) {
+			return CurrentTestDescriptor.runWithDescriptor(descriptor, () -> CurrentTry.runWithTry(tryIdentifier, supplier));
+		}
+
 		@Example
 		void finishScope_removesAllStoresForScopeAndItsChildren() {
 			TestDescriptor container1 = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -0,0 +1,98 @@
+package net.jqwik.engine.facades;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemoizeTests {
+
+	@Example
+	void structurallyEqualArbitrariesShareGenerator() {
+		RandomGenerator<String> generator1 = Arbitraries.strings().alpha().ofMaxLength(50).generator(1000, true);
+		long hitsBefore = Memoize.hits();
+		RandomGenerator<String> generator2 = Arbitraries.strings().alpha().ofMaxLength(50).generator(1000, true);
+
+		assertThat(generator2).isSameAs(generator1);
+		assertThat(Memoize.hits()).isGreaterThan(hitsBefore);
+	}
+
+	@Example
+	void differentlyConfiguredArbitrariesDoNotShareGenerator() {
+		RandomGenerator<String> generator1 = Arbitraries.strings().alpha().ofMaxLength(50).generator(1000, true);
+		RandomGenerator<String> generator2 = Arbitraries.strings().alpha().ofMaxLength(49).generator(1000, true);
+		RandomGenerator<String> generator3 = Arbitraries.strings().alpha().ofMaxLength(50).generator(1000, false);
+		RandomGenerator<String> generator4 = Arbitraries.strings().alpha().ofMaxLength(50).generator(100, true);
+
+		assertThat(generator2).isNotSameAs(generator1);
+		assertThat(generator3).isNotSameAs(generator1);
+		assertThat(generator4).isNotSameAs(generator1);
+	}
+
+	@Example
+	void integralArbitrariesAreEqualWhenConfiguredEqually() {
+		assertThat(Arbitraries.integers().between(1, 10)).isEqualTo(Arbitraries.integers().between(1, 10));
+		assertThat(Arbitraries.longs().withDistribution(RandomDistribution.uniform()))
+			.isEqualTo(Arbitraries.longs().withDistribution(RandomDistribution.uniform()));
+		assertThat(Arbitraries.integers().between(1, 10)).isNotEqualTo(Arbitraries.integers().between(1, 11));
+		assertThat(Arbitraries.integers().shrinkTowards(5)).isNotEqualTo(Arbitraries.integers());
+	}
+
+	@Example
+	void configuringAnIntegralArbitraryDoesNotChangeOriginal() {
+		IntegerArbitrary integers = Arbitraries.integers();
+		integers.between(1, 10);
+
+		assertThat(integers).isEqualTo(Arbitraries.integers());
+	}
+
+	@Example
+	void mappedArbitrariesAreOnlyEqualToThemselves() {
+		Arbitrary<Integer> mapped = Arbitraries.integers().map(i -> i + 1);
+
+		assertThat(mapped.generator(1000, false)).isSameAs(mapped.generator(1000, false));
+		assertThat(Arbitraries.integers().map(i -> i + 1)).isNotEqualTo(mapped);
+	}
+
+	@Example
+	void generatorsOfOtherArbitrariesAreNotSharedWithOtherProperties() {
+		Arbitrary<Integer> mapped = Arbitraries.integers().map(i -> i + 1);
+		RandomGenerator<Integer> generator = mapped.generator(1000, false);
+
+		TestDescriptor otherProperty = TestDescriptorBuilder.forMethod(MemoizeTests.class, "structurallyEqualArbitrariesShareGenerator").build();
+		try {
+			RandomGenerator<Integer> otherGenerator =
+				CurrentTestDescriptor.runWithDescriptor(otherProperty, () -> mapped.generator(1000, false));
+			assertThat(otherGenerator).isNotSameAs(generator);
+		} finally {
+			StoreRepository.getCurrent().finishScope(otherProperty);
+		}
+	}
+
+	@Example
+	void generatorsOfStringsWithRepeatedCharsAreNotSharedWithOtherProperties() {
+		RandomGenerator<String> generator = Arbitraries.strings().alpha().repeatChars(0.5).generator(1000, false);
+
+		TestDescriptor otherProperty = TestDescriptorBuilder.forMethod(MemoizeTests.class, "structurallyEqualArbitrariesShareGenerator").build();
+		try {
+			RandomGenerator<String> otherGenerator =
+				CurrentTestDescriptor.runWithDescriptor(otherProperty, () -> Arbitraries.strings().alpha().repeatChars(0.5).generator(1000, false));
+			assertThat(otherGenerator).isNotSameAs(generator);
+		} finally {
+			StoreRepository.getCurrent().finishScope(otherProperty);
+		}
+	}
+
+	@Example
+	void clearForgetsSharedGenerators() {
+		RandomGenerator<String> generator1 = Arbitraries.strings().numeric().ofMaxLength(42).generator(1000, true);
+		Memoize.clear();
+		RandomGenerator<String> generator2 = Arbitraries.strings().numeric().ofMaxLength(42).generator(1000, true);
+
+		assertThat(generator2).isNotSameAs(generator1);
+	}
+}
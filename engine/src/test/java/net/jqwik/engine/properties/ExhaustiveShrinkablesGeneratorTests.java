@@ -82,19 +82,71 @@ class ExhaustiveShrinkablesGeneratorTests {
 		Assertions.assertThatThrownBy(() -> createGenerator("doubles")).isInstanceOf(JqwikException.class);
 	}
 
+	@Example
+	void shardsTogetherGenerateAllSamplesInOrder() {
+		List<List<Shrinkable<Object>>> all = allSamples(createGenerator("intFrom1to3And4to5"));
+
+		List<List<Shrinkable<Object>>> fromShards = new ArrayList<>();
+		for (int index = 1; index <= 4; index++) {
+			ExhaustiveShard shard = ExhaustiveShard.parse(index + "/4");
+			fromShards.addAll(allSamples(createGenerator("intFrom1to3And4to5", shard)));
+		}
+
+		assertThat(fromShards).containsExactlyElementsOf(all);
+	}
+
+	@Example
+	void shardsWithoutAccessByIndexGenerateAllSamples() {
+		List<List<Shrinkable<Object>>> all = allSamples(createGenerator("iterables"));
+
+		List<List<Shrinkable<Object>>> fromShards = new ArrayList<>();
+		fromShards.addAll(allSamples(createGenerator("iterables", ExhaustiveShard.parse("1/2"))));
+		fromShards.addAll(allSamples(createGenerator("iterables", ExhaustiveShard.parse("2/2"))));
+
+		assertThat(fromShards).containsExactlyElementsOf(all);
+	}
+
+	@Example
+	void shardSlicesAllSamples() {
+		ExhaustiveShard first = ExhaustiveShard.parse("1/3");
+		ExhaustiveShard last = ExhaustiveShard.parse("3/3");
+
+		assertThat(first.start(10)).isEqualTo(0);
+		assertThat(first.end(10)).isEqualTo(3);
+		assertThat(last.start(10)).isEqualTo(6);
+		assertThat(last.end(10)).isEqualTo(Long.MAX_VALUE);
+		assertThat(ExhaustiveShard.parse("2/3").start(Long.MAX_VALUE)).isPositive();
+
+		assertThatThrownBy(() -> ExhaustiveShard.parse("0/3")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ExhaustiveShard.parse("4/3")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ExhaustiveShard.parse("3")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private List<List<Shrinkable<Object>>> allSamples(ExhaustiveShrinkablesGenerator generator) {
+		List<List<Shrinkable<Object>>> samples = new ArrayList<>();
+		while (generator.hasNext()) {
+			samples.add(generator.next());
+		}
+		return samples;
+	}
+
 	private ExhaustiveShrinkablesGenerator createGenerator(String methodName) {
+		return createGenerator(methodName, ExhaustiveShard.ALL);
+	}
+
+	private ExhaustiveShrinkablesGenerator createGenerator(String methodName, ExhaustiveShard shard) {
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
 			new MyProperties(),
 			DomainContext.global()
 		);
-		return createGenerator(methodName, arbitraryResolver);
+		return createGenerator(methodName, arbitraryResolver, shard);
 	}
 
-	private ExhaustiveShrinkablesGenerator createGenerator(String methodName, ArbitraryResolver arbitraryResolver) {
+	private ExhaustiveShrinkablesGenerator createGenerator(String methodName, ArbitraryResolver arbitraryResolver, ExhaustiveShard shard) {
 		PropertyMethodDescriptor methodDescriptor = createDescriptor(methodName);
 		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
 
-		return ExhaustiveShrinkablesGenerator.forParameters(parameters, arbitraryResolver, ExhaustiveGenerator.MAXIMUM_SAMPLES_TO_GENERATE);
+		return ExhaustiveShrinkablesGenerator.forParameters(parameters, arbitraryResolver, ExhaustiveGenerator.MAXIMUM_SAMPLES_TO_GENERATE, shard);
 	}
 
 	private PropertyMethodDescriptor createDescriptor(String methodName) {
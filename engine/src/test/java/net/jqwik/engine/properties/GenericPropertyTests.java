@@ -1,6 +1,8 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -13,6 +15,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -500,6 +503,176 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class InParallel {
+
+		@Example
+		void allTriesAreExecuted() {
+			AtomicInteger countCalls = new AtomicInteger(0);
+			CheckedFunction checkedFunction = params -> {
+				countCalls.incrementAndGet();
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+			assertThat(countCalls.get()).isEqualTo(100);
+		}
+
+		@Example
+		void firstFalsifiedSampleInOrderOfGenerationIsReported() {
+			int[] values = IntStream.rangeClosed(1, 50).toArray();
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(values);
+			CheckedFunction checkedFunction = params -> {
+				int value = (int) params.get(0);
+				return value < 7 || value == 30;
+			};
+
+			PropertyConfiguration configuration = aConfig().withShrinking(OFF).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters().get()).containsExactly(7);
+			assertThat(result.countTries()).isEqualTo(7);
+			assertThat(result.countChecks()).isEqualTo(7);
+			assertThat(result.generationInfo().generationIndex()).isEqualTo(7);
+		}
+
+		@Example
+		void stopWhenNoMoreShrinkablesCanBeGenerated() {
+			CheckedFunction checkedFunction = params -> true;
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(1, 2, 3);
+
+			PropertyConfiguration configuration = aConfig().withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("finite property", configuration, shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(3);
+			assertThat(result.countChecks()).isEqualTo(3);
+		}
+
+		@Example
+		void eachTryIsGeneratedAndExecutedWithItsOwnTryIdentifier() {
+			Map<Object, Object> tryIdentifiers = new ConcurrentHashMap<>();
+			ParametersGenerator shrinkablesGenerator = peekingGenerator(
+				finiteShrinkablesGenerator(IntStream.rangeClosed(1, 100).toArray()),
+				params -> tryIdentifiers.put(params.get(0).value(), CurrentTry.get())
+			);
+			CheckedFunction checkedFunction = params -> CurrentTry.get() == tryIdentifiers.get(params.get(0));
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(new HashSet<>(tryIdentifiers.values())).hasSize(100);
+		}
+
+		@Example
+		void generationErrorAfterFinishingEarlyIsNotReported() {
+			ParametersGenerator shrinkablesGenerator = peekingGenerator(
+				finiteShrinkablesGenerator(1, 2, 3, 4, 5),
+				params -> {
+					if ((int) params.get(0).value() == 5) {
+						throw new TooManyFilterMissesException("cannot generate 5");
+					}
+				}
+			);
+			TryLifecycleExecutor finishAtThree = (context, params) -> TryExecutionResult.satisfied((int) params.get(0) == 3);
+
+			PropertyConfiguration configuration = aConfig().withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("finishing property", configuration, shrinkablesGenerator, finishAtThree, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(3);
+			assertThat(result.countChecks()).isEqualTo(3);
+		}
+	}
+
+	@Group
+	class Metrics {
+
+		@Example
+		void allTriesAreMeasured() {
+			CheckedFunction checkedFunction = params -> true;
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(1, 2, 3, 4, 5);
+
+			GenericProperty property =
+				new GenericProperty("measured property", aConfig().build(), shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.metrics()).isPresent();
+			PropertyExecutionMetrics metrics = result.metrics().get();
+			assertThat(metrics.countMeasuredTries()).isEqualTo(5);
+			assertThat(metrics.countShrinkingSteps()).isEqualTo(0);
+			assertThat(metrics.shrinkingTime()).isEqualTo(Duration.ZERO);
+		}
+
+		@Example
+		void triesDuringShrinkingAreNotCountedAsTries() {
+			CheckedFunction checkedFunction = params -> (int) params.get(0) < 10;
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			GenericProperty property =
+				new GenericProperty("shrunk property", aConfig().build(), shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters().get()).containsExactly(10);
+
+			PropertyExecutionMetrics metrics = result.metrics().get();
+			assertThat(metrics.countMeasuredTries()).isEqualTo(result.countTries());
+			int shrinkingSteps = result.shrunkSample().map(ShrunkFalsifiedSample::countShrinkingSteps).orElse(0);
+			assertThat(metrics.countShrinkingSteps()).isEqualTo(shrinkingSteps);
+		}
+
+		@Example
+		void shrinkingTriesAreNotMeasuredInAnyThread() throws Exception {
+			PropertyExecutionMetricsRecorder recorder = new PropertyExecutionMetricsRecorder();
+			TryLifecycleExecutor measuredTries = recorder.measureTries((context, params) -> TryExecutionResult.satisfied());
+			TryLifecycleExecutor shrinkingTries = recorder.shrinkingTries(measuredTries);
+
+			// E.g. a shrinking thread that is still running after bounded shrinking has timed out
+			Thread shrinkingThread = new Thread(() -> shrinkingTries.execute(tryLifecycleContextSupplier.get(), Collections.emptyList()));
+			shrinkingThread.start();
+			shrinkingThread.join();
+			measuredTries.execute(tryLifecycleContextSupplier.get(), Collections.emptyList());
+
+			assertThat(recorder.metrics().countMeasuredTries()).isEqualTo(1);
+		}
+
+		@Example
+		void parallelTriesAreMeasured() {
+			CheckedFunction checkedFunction = params -> true;
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.metrics().get().countMeasuredTries()).isEqualTo(100);
+		}
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
@@ -581,7 +754,43 @@ class GenericPropertyTests {
 		};
 	}
 
-	private ParametersGenerator finiteShrinkablesGenerator(int... values) {
+	private ParametersGenerator peekingGenerator(ParametersGenerator generator, Consumer<List<Shrinkable<Object>>> peek) {
+		return new ParametersGenerator() {
+			@Override
+			public boolean hasNext() {
+				return generator.hasNext();
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next(TryLifecycleContext context) {
+				List<Shrinkable<Object>> next = generator.next(context);
+				peek.accept(next);
+				return next;
+			}
+
+			@Override
+			public int edgeCasesTotal() {
+				return generator.edgeCasesTotal();
+			}
+
+			@Override
+			public int edgeCasesTried() {
+				return generator.edgeCasesTried();
+			}
+
+			@Override
+			public GenerationInfo generationInfo(String randomSeed) {
+				return generator.generationInfo(randomSeed);
+			}
+
+			@Override
+			public void reset() {
+				generator.reset();
+			}
+		};
+	}
+
+		private ParametersGenerator finiteShrinkablesGenerator(int... values) {
 		Iterator<Integer> valuesIterator = Arrays.stream(values).iterator();
 
 		return new ParametersGenerator() {
@@ -12,6 +12,7 @@ import net.jqwik.api.providers.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.support.types.*;
 import net.jqwik.testing.*;
 
 import static java.util.Arrays.asList;
@@ -515,6 +516,70 @@ class PropertyMethodArbitraryResolverTests {
 		}
 	}
 
+	@Group
+	class RunWideResolutionCache {
+
+		@Example
+		void resolvedArbitrariesAreSharedAcrossResolvers() {
+			MethodParameter parameter = getParameter(RegisteredArbitraryResolvers.DefaultParams.class, "stringOfLength5");
+			Set<Arbitrary<?>> arbitraries1 = getResolver(RegisteredArbitraryResolvers.DefaultParams.class).forParameter(parameter);
+			long hitsBefore = ArbitraryResolutionCache.hits();
+			Set<Arbitrary<?>> arbitraries2 = getResolver(RegisteredArbitraryResolvers.DefaultParams.class).forParameter(parameter);
+
+			assertThat(arbitraries2).hasSize(1);
+			assertThat(arbitraries2.iterator().next()).isSameAs(arbitraries1.iterator().next());
+			assertThat(ArbitraryResolutionCache.hits()).isGreaterThan(hitsBefore);
+		}
+
+		@Example
+		void clearForgetsResolvedArbitraries() {
+			MethodParameter parameter = getParameter(RegisteredArbitraryResolvers.DefaultParams.class, "stringOfLength5");
+			Set<Arbitrary<?>> arbitraries1 = getResolver(RegisteredArbitraryResolvers.DefaultParams.class).forParameter(parameter);
+			ArbitraryResolutionCache.clear();
+			Set<Arbitrary<?>> arbitraries2 = getResolver(RegisteredArbitraryResolvers.DefaultParams.class).forParameter(parameter);
+
+			assertThat(arbitraries2.iterator().next()).isNotSameAs(arbitraries1.iterator().next());
+		}
+
+		@Example
+		void registeredResolverIsSharedForEqualProviders() {
+			DomainContext global = DomainContext.global();
+			RegisteredArbitraryResolver resolver1 = ArbitraryResolutionCache.registeredArbitraryResolver(
+				ArbitraryResolutionCache.context(global.getArbitraryProviders(), global.getArbitraryConfigurators())
+			);
+			RegisteredArbitraryResolver resolver2 = ArbitraryResolutionCache.registeredArbitraryResolver(
+				ArbitraryResolutionCache.context(global.getArbitraryProviders(), global.getArbitraryConfigurators())
+			);
+
+			assertThat(resolver2).isSameAs(resolver1);
+		}
+
+		@Example
+		void typesReferringToProvidersOfTestInstanceAreNotCached() {
+			assertThat(isCacheable(getParameter(ProvidedArbitraries.WithNamedProviders.class, "thing"))).isFalse();
+			assertThat(isCacheable(getParameter(ProvidedArbitraries.WithNamedProviders.class, "thingBySupplier"))).isFalse();
+			assertThat(isCacheable(getParameter(RegisteredArbitraryResolvers.DefaultParams.class, "aString"))).isTrue();
+		}
+
+		@Example
+		void resolversWithOtherDomainContextsDoNotUseCache() {
+			DomainContext domainContext = new DomainContextBase() {};
+			MethodParameter parameter = getParameter(RegisteredArbitraryResolvers.DefaultParams.class, "aString");
+			PropertyMethodArbitraryResolver resolver = new PropertyMethodArbitraryResolver(
+				JqwikReflectionSupport.newInstanceWithDefaultConstructor(RegisteredArbitraryResolvers.DefaultParams.class),
+				domainContext
+			);
+
+			long lookupsBefore = ArbitraryResolutionCache.hits() + ArbitraryResolutionCache.misses();
+			assertThat(resolver.forParameter(parameter)).hasSize(1);
+			assertThat(ArbitraryResolutionCache.hits() + ArbitraryResolutionCache.misses()).isEqualTo(lookupsBefore);
+		}
+
+		private boolean isCacheable(MethodParameter parameter) {
+			return ArbitraryResolutionCache.isCacheable(TypeUsageImpl.forParameter(parameter));
+		}
+	}
+
 	private static PropertyMethodArbitraryResolver getResolver(Class<?> container) {
 		return new PropertyMethodArbitraryResolver(
 			JqwikReflectionSupport.newInstanceWithDefaultConstructor(container),
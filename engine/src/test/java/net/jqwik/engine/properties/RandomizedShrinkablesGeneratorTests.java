@@ -2,12 +2,15 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
 import static java.util.Arrays.*;
@@ -136,23 +139,155 @@ class RandomizedShrinkablesGeneratorTests {
 		}
 	}
 
+	@Example
+	void lazyShrinkablesHaveSameValuesAndShrinkLikeEagerOnes(@ForAll long seed) {
+		RandomizedShrinkablesGenerator eagerGenerator = createGenerator(new Random(seed), "simpleParameters", false);
+		RandomizedShrinkablesGenerator lazyGenerator = createGenerator(new Random(seed), "simpleParameters", true);
+
+		for (int i = 0; i < 10; i++) {
+			List<Shrinkable<Object>> eagerShrinkables = eagerGenerator.next();
+			List<Shrinkable<Object>> lazyShrinkables = lazyGenerator.next();
+			assertThat(lazyShrinkables).allMatch(shrinkable -> shrinkable instanceof ReplayableShrinkable);
+			assertThat(values(lazyShrinkables)).isEqualTo(values(eagerShrinkables));
+
+			List<Shrinkable<Object>> materialized = ReplayableShrinkable.unwrap(lazyShrinkables);
+			assertThat(values(materialized)).isEqualTo(values(eagerShrinkables));
+			for (int j = 0; j < materialized.size(); j++) {
+				assertThat(materialized.get(j).distance()).isEqualTo(eagerShrinkables.get(j).distance());
+				assertThat(shrunkValues(materialized.get(j))).isEqualTo(shrunkValues(eagerShrinkables.get(j)));
+			}
+		}
+	}
+
+	@Example
+	void lazyShrinkablesThatCannotBeRegeneratedAreNotShrunk(@ForAll Random random) {
+		AtomicInteger numberOfGenerations = new AtomicInteger(0);
+		Arbitrary<Integer> stateful = Arbitraries.fromGenerator(r -> {
+			// Consumes more randomness with every call
+			int generation = numberOfGenerations.incrementAndGet();
+			for (int i = 0; i < generation; i++) {
+				r.nextInt();
+			}
+			return Arbitraries.integers().between(100, 1000).generator(1000).next(r);
+		});
+		ArbitraryResolver arbitraryResolver = parameter -> Collections.singleton(stateful);
+		RandomizedShrinkablesGenerator lazyGenerator = createGenerator(random, "intParameter", arbitraryResolver, true);
+
+		List<Shrinkable<Object>> lazyShrinkables = lazyGenerator.next();
+		Object generatedValue = lazyShrinkables.get(0).value();
+
+		Shrinkable<Object> materialized = ReplayableShrinkable.unwrap(lazyShrinkables).get(0);
+		assertThat(materialized.value()).isEqualTo(generatedValue);
+		assertThat(materialized.shrink()).isEmpty();
+	}
+
+	@Example
+	void choicesOfReplayableSampleReproduceSample(@ForAll Random random) {
+		RandomizedShrinkablesGenerator generator = createGenerator(random, "simpleParameters", false, true);
+
+		for (int i = 0; i < 10; i++) {
+			List<Shrinkable<Object>> shrinkables = generator.next();
+			Optional<ReplayableGeneration> replayableGeneration = ReplayableShrinkable.replayableGeneration(shrinkables);
+			assertThat(replayableGeneration).isPresent();
+
+			long[] choices = replayableGeneration.get().choices();
+			List<Shrinkable<Object>> replayed = replayableGeneration.get().generate(ChoiceSequenceRandom.replaying(choices));
+			assertThat(values(replayed)).isEqualTo(values(shrinkables));
+		}
+	}
+
+	@Example
+	void choiceSequenceShrinkingCanBeRecreatedFromShrinkingSequence(@ForAll Random random) {
+		RandomizedShrinkablesGenerator generator = createGenerator(random, "simpleParameters", false, true);
+		Falsifier<List<Object>> falsifier = params -> {
+			int anInt = (int) params.get(1);
+			return Math.abs(anInt) < 10 ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+		};
+
+		List<Shrinkable<Object>> sample = generator.next();
+		while (!falsifier.execute(values(sample)).isFalsified()) {
+			sample = generator.next();
+		}
+
+		FalsifiedSample originalSample = new FalsifiedSampleImpl(
+			values(sample),
+			ReplayableShrinkable.unwrap(sample),
+			Optional.empty(),
+			Collections.emptyList()
+		);
+		PropertyShrinker shrinker = new PropertyShrinker(
+			originalSample,
+			ShrinkingMode.FULL,
+			10,
+			ignore -> {},
+			null,
+			ReplayableShrinkable.replayableGeneration(sample),
+			1
+		);
+		ShrunkFalsifiedSample shrunkSample = shrinker.shrink(falsifier);
+		assertThat(shrunkSample.parameters()).isIn(asList("", 10), asList("", -10));
+
+		Optional<List<Shrinkable<Object>>> recreated = new ShrunkSampleRecreator(sample).recreateFrom(shrinker.shrinkingSequence());
+		assertThat(recreated).hasValueSatisfying(
+			shrinkables -> assertThat(values(shrinkables)).isEqualTo(shrunkSample.parameters())
+		);
+	}
+
+	private List<Object> shrunkValues(Shrinkable<Object> shrinkable) {
+		return shrinkable.shrink().map(Shrinkable::value).collect(Collectors.toList());
+	}
+
 	private List<Object> values(List<Shrinkable<Object>> shrinkables) {
 		return shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
 	}
 
 	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName) {
+		return createGenerator(random, methodName, false);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName, boolean lazyShrinkables) {
+		return createGenerator(random, methodName, lazyShrinkables, false);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(
+		Random random,
+		String methodName,
+		boolean lazyShrinkables,
+		boolean choiceSequenceShrinking
+	) {
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
 			new MyProperties(),
 			DomainContext.global()
 		);
-		return createGenerator(random, methodName, arbitraryResolver);
+		return createGenerator(random, methodName, arbitraryResolver, lazyShrinkables, choiceSequenceShrinking);
 	}
 
 	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName, ArbitraryResolver arbitraryResolver) {
+		return createGenerator(random, methodName, arbitraryResolver, false);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(
+		Random random,
+		String methodName,
+		ArbitraryResolver arbitraryResolver,
+		boolean lazyShrinkables
+	) {
+		return createGenerator(random, methodName, arbitraryResolver, lazyShrinkables, false);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(
+		Random random,
+		String methodName,
+		ArbitraryResolver arbitraryResolver,
+		boolean lazyShrinkables,
+		boolean choiceSequenceShrinking
+	) {
 		PropertyMethodDescriptor methodDescriptor = createDescriptor(methodName);
 		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
 
-		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000, EdgeCasesMode.NONE);
+		return RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver, random, 1000, EdgeCasesMode.NONE, lazyShrinkables, choiceSequenceShrinking
+		);
 	}
 
 	private PropertyMethodDescriptor createDescriptor(String methodName) {
@@ -163,6 +298,8 @@ class RandomizedShrinkablesGeneratorTests {
 
 		public void simpleParameters(@ForAll String aString, @ForAll int anInt) {}
 
+		public void intParameter(@ForAll int anInt) {}
+
 		public <T> void twiceTypeVariableT(@ForAll T t1, @ForAll T t2) {}
 
 		public <T> void typeVariableAlsoInList(@ForAll T t, @ForAll List<T> tList) {}
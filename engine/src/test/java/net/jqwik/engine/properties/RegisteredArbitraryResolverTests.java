@@ -99,6 +99,69 @@ class RegisteredArbitraryResolverTests {
 		assertThat(arbitraries).containsOnly(highestPriorityArbitrary1, highestPriorityArbitrary2, highestPriorityArbitrary3);
 	}
 
+	@Example
+	void providersWithProvidedTypesAreOnlyAskedForAssignableTargetTypes() {
+		Arbitrary<?> stringArbitrary = Arbitraries.strings();
+		List<TypeUsage> askedFor = new ArrayList<>();
+		ArbitraryProvider stringProvider = new ArbitraryProvider() {
+			@Override
+			public boolean canProvideFor(TypeUsage targetType) {
+				askedFor.add(targetType);
+				return targetType.isAssignableFrom(String.class);
+			}
+
+			@Override
+			public Set<Class<?>> providedTypes() {
+				return Collections.singleton(String.class);
+			}
+
+			@Override
+			public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+				return Collections.singleton(stringArbitrary);
+			}
+		};
+		RegisteredArbitraryResolver resolver = new RegisteredArbitraryResolver(asList(stringProvider));
+
+		assertThat(resolver.resolve(TypeUsage.of(Integer.class), noSubtypes())).doesNotContain(stringArbitrary);
+		assertThat(resolver.resolve(TypeUsage.of(int.class), noSubtypes())).doesNotContain(stringArbitrary);
+		assertThat(askedFor).isEmpty();
+
+		assertThat(resolver.resolve(TypeUsage.of(String.class), noSubtypes())).containsOnly(stringArbitrary);
+		assertThat(resolver.resolve(TypeUsage.of(CharSequence.class), noSubtypes())).containsOnly(stringArbitrary);
+		assertThat(resolver.resolve(TypeUsage.wildcard(TypeUsage.of(Object.class)), noSubtypes())).contains(stringArbitrary);
+		assertThat(askedFor).hasSize(3);
+	}
+
+	@Example
+	void primitiveProvidedTypesAreBoxed() {
+		Arbitrary<?> intArbitrary = new DefaultIntegerArbitrary();
+		ArbitraryProvider intProvider = new ArbitraryProvider() {
+			@Override
+			public boolean canProvideFor(TypeUsage targetType) {
+				return targetType.isAssignableFrom(int.class);
+			}
+
+			@Override
+			public Set<Class<?>> providedTypes() {
+				return Collections.singleton(int.class);
+			}
+
+			@Override
+			public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+				return Collections.singleton(intArbitrary);
+			}
+
+			@Override
+			public int priority() {
+				return 1;
+			}
+		};
+		RegisteredArbitraryResolver resolver = new RegisteredArbitraryResolver(asList(intProvider));
+
+		assertThat(resolver.resolve(TypeUsage.of(Integer.class), noSubtypes())).containsOnly(intArbitrary);
+		assertThat(resolver.resolve(TypeUsage.of(int.class), noSubtypes())).containsOnly(intArbitrary);
+	}
+
 	private SubtypeProvider noSubtypes() {
 		return ignore -> Collections.emptySet();
 	}
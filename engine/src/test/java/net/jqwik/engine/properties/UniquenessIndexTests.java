@@ -0,0 +1,75 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class UniquenessIndexTests {
+
+	@Example
+	void valuesWithKnownFeatureAreNotUnique() {
+		FeatureExtractor<Integer> modulo10 = i -> i % 10;
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10), asList(1, 12, 23));
+
+		assertThat(index.isUnique(4)).isTrue();
+		assertThat(index.isUnique(11)).isFalse();
+		assertThat(index.isUnique(33)).isFalse();
+
+		index.add(4);
+		assertThat(index.isUnique(14)).isFalse();
+	}
+
+	@Example
+	void valueMustBeUniqueForAllExtractors() {
+		FeatureExtractor<Integer> modulo10 = i -> i % 10;
+		FeatureExtractor<Integer> divideBy10 = i -> i / 10;
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10, divideBy10), asList(12));
+
+		assertThat(index.isUnique(34)).isTrue();
+		assertThat(index.isUnique(32)).isFalse();
+		assertThat(index.isUnique(15)).isFalse();
+	}
+
+	@Example
+	void nullFeaturesAreIndexed() {
+		FeatureExtractor<String> length = String::length;
+		UniquenessIndex<String> index = UniquenessIndex.of(asList(length), asList("a", null));
+
+		assertThat(index.isUnique(null)).isFalse();
+		assertThat(index.isUnique("ab")).isTrue();
+	}
+
+	@Example
+	void replacingValueWithSameFeatureKeepsUniqueness() {
+		FeatureExtractor<Integer> modulo10 = i -> i % 10;
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10), asList(1, 12, 23));
+
+		assertThat(index.isUniqueReplacing(12, 2)).isTrue();
+		assertThat(index.isUniqueReplacing(12, 4)).isTrue();
+		assertThat(index.isUniqueReplacing(12, 3)).isFalse();
+	}
+
+	@Example
+	void replacingOneOfSeveralValuesWithSameFeatureIsNotUnique() {
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(FeatureExtractor.identity()), asList(1, 1, 2));
+
+		assertThat(index.isUniqueReplacing(1, 1)).isFalse();
+		assertThat(index.isUniqueReplacing(2, 2)).isTrue();
+	}
+
+	@Property
+	void sameResultAsComparingWithAllValues(
+		@ForAll @Size(max = 20) List<@IntRange(max = 50) Integer> values,
+		@ForAll @IntRange(max = 50) int value
+	) {
+		FeatureExtractor<Integer> modulo7 = i -> i % 7;
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo7), values);
+
+		boolean expected = values.stream().noneMatch(i -> i % 7 == value % 7);
+		assertThat(index.isUnique(value)).isEqualTo(expected);
+	}
+}
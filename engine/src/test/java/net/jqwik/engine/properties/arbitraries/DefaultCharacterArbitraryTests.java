@@ -7,6 +7,8 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.testing.*;
 
+import static org.assertj.core.api.Assertions.*;
+
 import static net.jqwik.testing.TestingSupport.*;
 
 class DefaultCharacterArbitraryTests {
@@ -194,6 +196,41 @@ class DefaultCharacterArbitraryTests {
 		);
 	}
 
+	@Example
+	void exceptRemovesCharsFromRangesAndChars(@ForAll Random random) {
+		CharacterArbitrary all = this.arbitrary
+			.except('b', '5')
+			.range('0', '9')
+			.with('a', 'b', 'c');
+
+		checkAllGenerated(
+			all.generator(1000, true),
+			random,
+			c -> (c >= '0' && c <= '9' || c == 'a' || c == 'c') && c != '5'
+		);
+		assertAtLeastOneGeneratedOf(
+			all.generator(1000, true),
+			random,
+			'0', '4', '6', '9', 'a', 'c'
+		);
+	}
+
+	@Example
+	void exceptedCharsAreNeitherEdgeCasesNorExhaustivelyGenerated() {
+		CharacterArbitrary digits = this.arbitrary.numeric().except('0', '5', '9');
+
+		assertThat(collectEdgeCaseValues(digits.edgeCases())).doesNotContain('0', '5', '9');
+		assertThat(digits.exhaustive()).hasValueSatisfying(
+			generator -> assertThat(generator).containsExactly('1', '2', '3', '4', '6', '7', '8')
+		);
+	}
+
+	@Example
+	void exceptingAllCharsFails() {
+		CharacterArbitrary noChars = this.arbitrary.with('a', 'b').except('a', 'b');
+		assertThatThrownBy(() -> noChars.generator(1000)).isInstanceOf(IllegalArgumentException.class);
+	}
+
 	@Example
 	void whitespace(@ForAll Random random) {
 		CharacterArbitrary all = this.arbitrary.whitespace();
@@ -2,11 +2,13 @@ package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.assertj.core.api.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import static java.math.BigInteger.*;
 import static org.assertj.core.api.Assertions.*;
@@ -162,6 +164,81 @@ class RandomGeneratorsTests {
 
 	}
 
+	@Group
+	class PrimitiveIntegralGeneration {
+
+		@Example
+		void intsGenerateSameValuesAsBigIntegers(@ForAll long seed) {
+			BigInteger min = valueOf(Integer.MIN_VALUE);
+			BigInteger max = valueOf(Integer.MAX_VALUE);
+			for (RandomDistribution distribution : Arrays.asList(RandomDistribution.biased(), RandomDistribution.uniform())) {
+				IntGenerator intGenerator = RandomIntegralGenerators.ints(1000, min, max, ZERO, distribution).get();
+				RandomGenerator<BigInteger> bigIntegers = RandomIntegralGenerators.bigIntegers(1000, min, max, ZERO, distribution);
+
+				Random primitiveRandom = new Random(seed);
+				Random bigIntegerRandom = new Random(seed);
+				for (int i = 0; i < 100; i++) {
+					int value = intGenerator.nextInt(primitiveRandom);
+					assertThat(value).isEqualTo(bigIntegers.next(bigIntegerRandom).value().intValueExact());
+				}
+			}
+		}
+
+		@Example
+		void longsGenerateSameValuesAsBigIntegers(@ForAll long seed) {
+			BigInteger min = valueOf(Long.MIN_VALUE);
+			BigInteger max = valueOf(Long.MAX_VALUE);
+			for (RandomDistribution distribution : Arrays.asList(RandomDistribution.biased(), RandomDistribution.uniform())) {
+				LongGenerator longGenerator = RandomIntegralGenerators.longs(1000, min, max, ZERO, distribution).get();
+				RandomGenerator<BigInteger> bigIntegers = RandomIntegralGenerators.bigIntegers(1000, min, max, ZERO, distribution);
+
+				Random primitiveRandom = new Random(seed);
+				Random bigIntegerRandom = new Random(seed);
+				for (int i = 0; i < 100; i++) {
+					long value = longGenerator.nextLong(primitiveRandom);
+					assertThat(value).isEqualTo(bigIntegers.next(bigIntegerRandom).value().longValueExact());
+				}
+			}
+		}
+
+		@Example
+		void shrinkablesBehaveLikeBigIntegerShrinkables(@ForAll Random random) {
+			BigInteger min = valueOf(-1000);
+			BigInteger max = valueOf(1000);
+			BigInteger target = valueOf(10);
+			IntGenerator intGenerator = RandomIntegralGenerators.ints(1000, min, max, target, RandomDistribution.uniform()).get();
+
+			for (int i = 0; i < 10; i++) {
+				Shrinkable<Integer> shrinkable = intGenerator.asGenerator().next(random);
+				Shrinkable<Integer> bigIntegerShrinkable =
+					new ShrinkableBigInteger(valueOf(shrinkable.value()), Range.of(min, max), target).map(BigInteger::intValueExact);
+
+				assertThat(shrinkable.distance()).isEqualTo(bigIntegerShrinkable.distance());
+				assertThat(shrinkable.shrink().map(Shrinkable::value))
+					.containsExactlyElementsOf(bigIntegerShrinkable.shrink().map(Shrinkable::value).collect(Collectors.toList()));
+			}
+		}
+
+		@Example
+		void distanceOfExtremeValuesIsCapped() {
+			BigInteger min = valueOf(Long.MIN_VALUE);
+			BigInteger max = valueOf(Long.MAX_VALUE);
+			LongGenerator longGenerator = RandomIntegralGenerators.longs(1000, min, max, max, RandomDistribution.uniform()).get();
+
+			assertThat(longGenerator.shrinkable(Long.MIN_VALUE).distance()).isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+			assertThat(longGenerator.shrinkable(0L).distance()).isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+			assertThat(longGenerator.shrinkable(-1L).distance()).isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+			assertThat(longGenerator.shrinkable(1L).distance()).isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE - 1));
+		}
+
+		@Example
+		void notAvailableForGaussianDistribution() {
+			Optional<IntGenerator> intGenerator =
+				RandomIntegralGenerators.ints(1000, valueOf(-100), valueOf(100), ZERO, RandomDistribution.gaussian());
+			assertThat(intGenerator).isEmpty();
+		}
+	}
+
 	@Group
 	class BigDecimalGeneration {
 
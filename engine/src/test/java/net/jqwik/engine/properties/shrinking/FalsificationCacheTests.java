@@ -0,0 +1,95 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FalsificationCacheTests {
+
+	private final AtomicInteger executions = new AtomicInteger(0);
+
+	private final Falsifier<List<Object>> falsifier = params -> {
+		executions.incrementAndGet();
+		int value = (int) params.get(0);
+		if (value < 0) {
+			return TryExecutionResult.invalid();
+		}
+		return value < 10 ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+	};
+
+	@Example
+	void satisfiedAndInvalidResultsAreTakenFromCache() {
+		FalsificationCache cache = new FalsificationCache();
+
+		assertThat(cache.falsify(falsifier, asList(1, "a")).isSatisfied()).isTrue();
+		assertThat(cache.falsify(falsifier, asList(-1, "a")).isInvalid()).isTrue();
+		assertThat(cache.falsify(falsifier, asList(1, "a")).isSatisfied()).isTrue();
+		assertThat(cache.falsify(falsifier, asList(-1, "a")).isInvalid()).isTrue();
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(2);
+		assertThat(cache.misses()).isEqualTo(2);
+	}
+
+	@Example
+	void equalParametersAreFoundInCache() {
+		FalsificationCache cache = new FalsificationCache();
+
+		cache.falsify(falsifier, asList(1, asList("a", "b")));
+		cache.falsify(falsifier, new ArrayList<>(asList(1, new ArrayList<>(asList("a", "b")))));
+
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Example
+	void parametersWithSameHashCodeAreExecuted() {
+		FalsificationCache cache = new FalsificationCache();
+		Falsifier<List<Object>> falsifier = params -> {
+			executions.incrementAndGet();
+			return params.get(0).equals("BB") ? TryExecutionResult.falsified(null) : TryExecutionResult.satisfied();
+		};
+		assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+		assertThat(cache.falsify(falsifier, asList("Aa")).isSatisfied()).isTrue();
+		assertThat(cache.falsify(falsifier, asList("BB")).isFalsified()).isTrue();
+
+		assertThat(executions.get()).isEqualTo(2);
+	}
+
+	@Example
+	void falsifiedResultsAreNotCached() {
+		FalsificationCache cache = new FalsificationCache();
+
+		assertThat(cache.falsify(falsifier, asList(10)).isFalsified()).isTrue();
+		assertThat(cache.falsify(falsifier, asList(10)).isFalsified()).isTrue();
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(0);
+	}
+
+	@Example
+	void leastRecentlyUsedEntriesAreEvicted() {
+		FalsificationCache cache = new FalsificationCache(2);
+
+		cache.falsify(falsifier, asList(1));
+		cache.falsify(falsifier, asList(2));
+		cache.falsify(falsifier, asList(1));
+		cache.falsify(falsifier, asList(3));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.evictions()).isEqualTo(1);
+
+		executions.set(0);
+		cache.falsify(falsifier, asList(1));
+		cache.falsify(falsifier, asList(3));
+		assertThat(executions.get()).isEqualTo(0);
+
+		cache.falsify(falsifier, asList(2));
+		assertThat(executions.get()).isEqualTo(1);
+	}
+}
@@ -3,6 +3,7 @@ package net.jqwik.engine.properties.shrinking;
 import java.math.*;
 import java.util.ArrayList;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -166,6 +167,31 @@ class PropertyShrinkerTests {
 			// TODO: Test that logging shrinking bound reached has happened
 		}
 
+		@Example
+		@SuppressLogging
+		void boundedShrinkingDoesNotGoOnInBackgroundAfterTimeout() throws InterruptedException {
+			List<Shrinkable<Object>> shrinkables = asList(new OneStepShrinkable(1000, 0, 1000).asGeneric());
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.BOUNDED, 1);
+
+			AtomicInteger countTries = new AtomicInteger(0);
+			Falsifier<List<Object>> slowFalsifier = ignore -> {
+				countTries.incrementAndGet();
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return TryExecutionResult.falsified(null);
+			};
+
+			ShrunkFalsifiedSample sample = shrinker.shrink(slowFalsifier);
+			int triesWhenShrinkingReturned = countTries.get();
+			Thread.sleep(300);
+
+			assertThat((int) sample.parameters().get(0)).isLessThan(1000);
+			assertThat(countTries.get()).isEqualTo(triesWhenShrinkingReturned);
+		}
+
 		@Example
 		@SuppressLogging
 		void currentTestDescriptorIsAvailableInBoundedShrinking() {
@@ -475,6 +501,80 @@ class PropertyShrinkerTests {
 		}
 	}
 
+	@Group
+	class ParallelShrinking {
+
+		@Property(tries = 10)
+		void sameResultAndShrinkingSequenceAsSequentialShrinking(@ForAll Random random) {
+			Shrinkable<List<Integer>> list = Arbitraries.integers().between(11, 100)
+														.list().ofMinSize(5).ofMaxSize(20)
+														.generator(100).next(random);
+			List<Shrinkable<Object>> shrinkables = asList(list.asGeneric(), new OneStepShrinkable(7).asGeneric());
+			FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				@SuppressWarnings("unchecked")
+				List<Integer> aList = (List<Integer>) params.get(0);
+				int anInt = (int) params.get(1);
+				return aList.stream().filter(e -> e > 10).count() < 2 || anInt < 3;
+			};
+
+			PropertyShrinker sequentialShrinker = createShrinker(originalSample, ShrinkingMode.FULL);
+			ShrunkFalsifiedSample sequentiallyShrunk = sequentialShrinker.shrink(falsifier);
+
+			PropertyShrinker parallelShrinker = new PropertyShrinker(
+				originalSample,
+				ShrinkingMode.FULL,
+				10,
+				falsifiedSampleReporter,
+				null,
+				Optional.empty(),
+				4
+			);
+			ShrunkFalsifiedSample parallelShrunk = parallelShrinker.shrink(falsifier);
+
+			assertThat(parallelShrunk.parameters()).isEqualTo(asList(asList(11, 11, 11, 11, 11), 3));
+			assertThat(parallelShrunk.parameters()).isEqualTo(sequentiallyShrunk.parameters());
+			assertThat(parallelShrunk.countShrinkingSteps()).isEqualTo(sequentiallyShrunk.countShrinkingSteps());
+			assertThat(parallelShrinker.shrinkingSequence()).isEqualTo(sequentialShrinker.shrinkingSequence());
+		}
+
+		@Example
+		void eachCandidateHasItsOwnTryStoreValue() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(20, 20);
+			FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+
+			AtomicInteger valuesSeenFromOtherTries = new AtomicInteger(0);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				Store<List<Object>> tryStore = Store.getOrCreate("candidateParams", Lifespan.TRY, ArrayList::new);
+				try {
+					if (!tryStore.get().isEmpty()) {
+						valuesSeenFromOtherTries.incrementAndGet();
+					}
+					tryStore.get().add(params);
+					return (int) params.get(0) + (int) params.get(1) < 10;
+				} finally {
+					tryStore.reset();
+				}
+			};
+
+			PropertyShrinker parallelShrinker = new PropertyShrinker(
+				originalSample,
+				ShrinkingMode.FULL,
+				10,
+				falsifiedSampleReporter,
+				null,
+				Optional.empty(),
+				4
+			);
+			ShrunkFalsifiedSample parallelShrunk = parallelShrinker.shrink(falsifier);
+			ShrunkFalsifiedSample sequentiallyShrunk = createShrinker(originalSample, ShrinkingMode.FULL).shrink(falsifier);
+
+			assertThat(parallelShrunk.parameters()).isEqualTo(sequentiallyShrunk.parameters());
+			assertThat(valuesSeenFromOtherTries.get()).isEqualTo(0);
+		}
+	}
+
 	@Property(tries = 100, edgeCases = EdgeCasesMode.NONE)
 	@ExpectFailure(checkResult = ShrinkToEmptyList0.class)
 	boolean shrinkDependentParameters(
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -59,6 +60,27 @@ class ShrinkableListTests {
 			assertThat(shrunkValue).hasSize(1);
 		}
 
+		@Example
+		void longListWithFailureDependingOnElementsFarApart() {
+			List<Shrinkable<Integer>> elementShrinkables =
+					IntStream.range(0, 10_000)
+							 .mapToObj(Shrinkable::unshrinkable)
+							 .collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(elementShrinkables, 0, 10_000);
+
+			AtomicInteger counter = new AtomicInteger(0);
+			TestingFalsifier<List<Integer>> falsifier = list -> {
+				counter.incrementAndGet();
+				return !(list.contains(10) && list.contains(9990));
+			};
+			List<Integer> shrunkValue = shrink(shrinkable, falsifier, null);
+
+			assertThat(shrunkValue.size()).isLessThanOrEqualTo(100);
+			assertThat(shrunkValue.get(0)).isEqualTo(10);
+			assertThat(shrunkValue.get(shrunkValue.size() - 1)).isEqualTo(9990);
+			assertThat(counter.get()).isLessThan(500);
+		}
+
 		@Example
 		void alsoShrinkElements() {
 			Shrinkable<List<Integer>> shrinkable = createShrinkableList(1, 2, 3);
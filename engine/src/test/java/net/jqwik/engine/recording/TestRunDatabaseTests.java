@@ -0,0 +1,204 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.execution.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.lifecycle.TryExecutionResult.Status.*;
+
+class TestRunDatabaseTests {
+
+	private Path databasePath;
+
+	@BeforeProperty
+	void createDatabasePath() throws IOException {
+		Path directory = Files.createTempDirectory("jqwik");
+		databasePath = directory.resolve(".jqwik-database");
+	}
+
+	@AfterProperty
+	void deleteDatabase() throws IOException {
+		Files.deleteIfExists(databasePath);
+		Files.deleteIfExists(databasePath.resolveSibling(".jqwik-database.lock"));
+		Files.deleteIfExists(databasePath.getParent());
+	}
+
+	@Example
+	void failingRunsCanBeReadInNextRun() {
+		GenerationInfo generationInfo = new GenerationInfo("4242", 41)
+			.appendShrinkingSequence(Arrays.asList(FALSIFIED, INVALID, SATISFIED))
+			.appendShrinkingSequence(Arrays.asList(SATISFIED, FALSIFIED));
+
+		record(
+			new TestRun(uniqueId("failing"), Status.FAILED, generationInfo),
+			new TestRun(uniqueId("succeeding"), Status.SUCCESSFUL, GenerationInfo.NULL)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(uniqueId("failing"))).hasValueSatisfying(testRun -> {
+			assertThat(testRun.getStatus()).isEqualTo(Status.FAILED);
+			assertThat(testRun.generationInfo()).isEqualTo(generationInfo);
+		});
+		assertThat(previousRun.byUniqueId(uniqueId("succeeding"))).isEmpty();
+	}
+
+	@Example
+	void failuresOfTestsNotRunAgainAreKept() {
+		record(new TestRun(uniqueId("test1"), Status.FAILED, new GenerationInfo("1")));
+		record(new TestRun(uniqueId("test2"), Status.ABORTED, new GenerationInfo("2")));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("test1"), uniqueId("test2"));
+	}
+
+	@Example
+	void successfulRunSupersedesPreviousFailure() {
+		record(new TestRun(uniqueId("test"), Status.FAILED, new GenerationInfo("1")));
+		record(new TestRun(uniqueId("test"), Status.SUCCESSFUL, new GenerationInfo("2")));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.allNonSuccessfulTests()).isEmpty();
+		assertThat(previousRun.byUniqueId(uniqueId("test")))
+			.hasValueSatisfying(testRun -> assertThat(testRun.isNotSuccessful()).isFalse());
+	}
+
+	@Example
+	void databaseInUnknownFormatIsRecreated() throws IOException {
+		try (ObjectOutputStream outputStream = new ObjectOutputStream(Files.newOutputStream(databasePath))) {
+			outputStream.writeObject("old format");
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+
+		record(new TestRun(uniqueId("test"), Status.FAILED, new GenerationInfo("1")));
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(uniqueId("test"))).isPresent();
+	}
+
+	@Example
+	void incompleteLastRecordIsIgnoredAndRemoved() throws IOException {
+		record(new TestRun(uniqueId("test"), Status.FAILED, new GenerationInfo("1")));
+		Files.write(databasePath, new byte[]{0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(uniqueId("test"))).isPresent();
+
+		record(new TestRun(uniqueId("other"), Status.FAILED, new GenerationInfo("2")));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("test"), uniqueId("other"));
+	}
+
+	@Example
+	void corruptRecordIsSkippedAndRemoved() throws IOException {
+		record(new TestRun(uniqueId("test"), Status.FAILED, new GenerationInfo("1")));
+		// Complete record with unique id "x" and an invalid status
+		Files.write(databasePath, new byte[]{0, 0, 0, 6, 0, 0, 0, 1, 'x', 99}, StandardOpenOption.APPEND);
+		record(new TestRun(uniqueId("other"), Status.FAILED, new GenerationInfo("2")));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("test"), uniqueId("other"));
+	}
+
+	@Example
+	void databaseThatCannotBeReadIsNotCompacted() throws IOException {
+		Files.createDirectory(databasePath);
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		database.recorder().close();
+
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+		assertThat(databasePath).isDirectory();
+	}
+
+	@Example
+	void obsoleteRecordsAreRemovedByCompaction() throws IOException {
+		int numberOfTests = TestRunDatabase.MIN_OBSOLETE_RECORDS_FOR_COMPACTION;
+		record(testRuns(numberOfTests, Status.FAILED));
+		record(testRuns(numberOfTests, Status.SUCCESSFUL));
+		long sizeBeforeCompaction = Files.size(databasePath);
+
+		record(new TestRun(uniqueId("test"), Status.FAILED, new GenerationInfo("1")));
+
+		assertThat(Files.size(databasePath)).isLessThan(sizeBeforeCompaction);
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("test"));
+	}
+
+	@Example
+	void severalRecordersCanWriteToSameDatabase() {
+		record(new TestRun(uniqueId("previous"), Status.FAILED, new GenerationInfo("0")));
+
+		TestRunDatabase fork1 = new TestRunDatabase(databasePath);
+		TestRunDatabase fork2 = new TestRunDatabase(databasePath);
+		TestRunRecorder recorder1 = fork1.recorder();
+		TestRunRecorder recorder2 = fork2.recorder();
+
+		recorder1.record(new TestRun(uniqueId("test1"), Status.FAILED, new GenerationInfo("1")));
+		recorder2.record(new TestRun(uniqueId("test2"), Status.FAILED, new GenerationInfo("2")));
+		recorder2.close();
+		recorder1.record(new TestRun(uniqueId("test3"), Status.FAILED, new GenerationInfo("3")));
+		recorder1.close();
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactlyInAnyOrder(uniqueId("previous"), uniqueId("test1"), uniqueId("test2"), uniqueId("test3"));
+	}
+
+	@Example
+	void compactionKeepsRecordsAppendedByOtherRecorders() {
+		int numberOfTests = TestRunDatabase.MIN_OBSOLETE_RECORDS_FOR_COMPACTION;
+		record(testRuns(numberOfTests, Status.FAILED));
+		record(testRuns(numberOfTests, Status.SUCCESSFUL));
+
+		TestRunDatabase fork1 = new TestRunDatabase(databasePath);
+		TestRunDatabase fork2 = new TestRunDatabase(databasePath);
+
+		TestRunRecorder recorder1 = fork1.recorder();
+		recorder1.record(new TestRun(uniqueId("test1"), Status.FAILED, new GenerationInfo("1")));
+		recorder1.close();
+
+		TestRunRecorder recorder2 = fork2.recorder();
+		recorder2.record(new TestRun(uniqueId("test2"), Status.FAILED, new GenerationInfo("2")));
+		recorder2.close();
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactlyInAnyOrder(uniqueId("test1"), uniqueId("test2"));
+	}
+
+	private TestRun[] testRuns(int count, Status status) {
+		return IntStream.range(0, count)
+						.mapToObj(i -> new TestRun(uniqueId("test" + i), status, new GenerationInfo("seed" + i)))
+						.toArray(TestRun[]::new);
+	}
+
+	private void record(TestRun... testRuns) {
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		try (TestRunRecorder recorder = database.recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+
+	private UniqueId uniqueId(String methodName) {
+		return UniqueId.forEngine("jqwik").append("method", methodName);
+	}
+}
@@ -1,8 +1,11 @@
 package net.jqwik.engine.statistics;
 
+import java.math.*;
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.statistics.*;
 import net.jqwik.engine.hooks.statistics.*;
 
 import static java.util.Arrays.*;
@@ -239,4 +242,193 @@ class StatisticsCollectionTests {
 		}
 
 	}
+
+	@Group
+	class Approximate {
+
+		@Example
+		void frequentValuesAreKept() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.approximate(2);
+
+			for (int i = 0; i < 1000; i++) {
+				collector.collect("frequent");
+				collector.collect("also frequent");
+				collector.collect(i);
+			}
+
+			assertThat(collector.getCounts()).hasSizeLessThanOrEqualTo(4);
+			assertThat(collector.count("frequent")).isEqualTo(1000);
+			assertThat(collector.count("also frequent")).isEqualTo(1000);
+			assertThat(collector.countAllCollects()).isEqualTo(3000);
+			assertThat(collector.percentage("frequent")).isCloseTo(33.3, withPercentage(1));
+		}
+
+		@Example
+		void droppedCollectsAreCounted() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.approximate(1);
+
+			collector.collect("one");
+			collector.collect("one");
+			collector.collect("two");
+			collector.collect("three");
+
+			assertThat(collector.count("one")).isEqualTo(2);
+			assertThat(collector.count("two") + collector.count("three")).isLessThanOrEqualTo(1);
+			assertThat(collector.countAllCollects()).isEqualTo(4);
+			assertThat(collector.countDroppedCollects()).isEqualTo(4 - 2 - collector.count("two") - collector.count("three"));
+		}
+
+		@Example
+		void approximatingLaterDropsRareValues() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			collector.collect("one");
+			collector.collect("two");
+			collector.collect("two");
+			collector.collect("three");
+			collector.collect("three");
+			collector.collect("three");
+
+			collector.approximate(2);
+
+			assertThat(collector.getCounts()).containsOnlyKeys(asList("two"), asList("three"));
+			assertThat(collector.count("one")).isEqualTo(0);
+			assertThat(collector.countDroppedCollects()).isEqualTo(1);
+			assertThat(collector.countAllCollects()).isEqualTo(6);
+		}
+
+		@Example
+		void exactCollectorDropsNothing() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			for (int i = 0; i < 100; i++) {
+				collector.collect(i);
+			}
+
+			assertThat(collector.getCounts()).hasSize(100);
+			assertThat(collector.countDroppedCollects()).isEqualTo(0);
+		}
+
+		@Example
+		void maxEntriesMustBePositive() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			assertThatThrownBy(() -> collector.approximate(0)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Group
+	class Buckets {
+
+		@Example
+		void numbersAreCountedInRanges() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.buckets(0, 100, 4);
+
+			for (int i = 0; i <= 100; i++) {
+				collector.collect(i);
+			}
+
+			assertThat(collector.getCounts()).hasSize(4);
+			assertThat(countsByLabel(collector)).containsExactly(
+				entry("[0..25[", 25),
+				entry("[25..50[", 25),
+				entry("[50..75[", 25),
+				entry("[75..100]", 26)
+			);
+			assertThat(collector.countAllCollects()).isEqualTo(101);
+		}
+
+		@Example
+		void numbersOutsideOfRangeAreCountedSeparately() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.buckets(0.5, 1.5, 2);
+
+			collector.collect(-1);
+			collector.collect(0.5);
+			collector.collect(1.0);
+			collector.collect(2L);
+			collector.collect(new BigDecimal("100.1"));
+
+			assertThat(countsByLabel(collector)).containsOnly(
+				entry("< 0.5", 1),
+				entry("[0.5..1[", 1),
+				entry("[1..1.5]", 1),
+				entry("> 1.5", 2)
+			);
+		}
+
+		@Example
+		void histogramShowsRangesInOrder() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.buckets(0, 30, 3);
+
+			collector.collect(25);
+			collector.collect(15);
+			collector.collect(15);
+			collector.collect(5);
+			collector.collect(5);
+			collector.collect(5);
+
+			List<String> report = new Histogram().formatReport(new ArrayList<>(collector.statisticsEntries()));
+			assertThat(report.get(2)).contains("[0..10[");
+			assertThat(report.get(3)).contains("[10..20[");
+			assertThat(report.get(4)).contains("[20..30]");
+		}
+
+		@Example
+		void coverageOfNumberChecksItsRange() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.buckets(0, 300, 3);
+
+			collector.collect(210);
+			collector.collect(250);
+			collector.collect(50);
+
+			List<Integer> checkedCounts = new ArrayList<>();
+			collector.coverage(coverage -> coverage.check(250).count((Consumer<Integer>) checkedCounts::add));
+			collector.checkCoverage();
+
+			assertThat(checkedCounts).containsExactly(2);
+			assertThat(collector.count(299)).isEqualTo(2);
+			assertThat(collector.count(-1)).isEqualTo(0);
+		}
+
+		@Example
+		void settingSameBucketsAgainIsAllowed() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			collector.buckets(0, 10, 2).collect(1);
+			collector.buckets(0, 10, 2).collect(2);
+
+			assertThat(collector.countAllCollects()).isEqualTo(2);
+			assertThatThrownBy(() -> collector.buckets(0, 10, 5)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Example
+		void onlyNumbersCanBeCollected() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+			collector.buckets(0, 10, 2);
+
+			assertThatThrownBy(() -> collector.collect("one")).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> collector.collect(1, 2)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> collector.collect(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Example
+		void rangesMustBeValid() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			assertThatThrownBy(() -> collector.buckets(10, 10, 2)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> collector.buckets(0, 10, 0)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		private Map<String, Integer> countsByLabel(StatisticsCollectorImpl collector) {
+			Map<String, Integer> countsByLabel = new LinkedHashMap<>();
+			collector.getCounts().forEach((key, count) -> countsByLabel.put(key.get(0).toString(), count));
+			return countsByLabel;
+		}
+	}
 }
@@ -404,4 +404,95 @@ class CombinatoricsTests {
 				.list();
 		}
 	}
+
+	@Group
+	@Label("combinePairwise")
+	class CombinePairwise {
+
+		@Example
+		void noLists() {
+			List<List<Integer>> combinations = Combinatorics.combinePairwise(asList());
+			assertThat(combinations).containsExactly(asList());
+		}
+
+		@Example
+		void singleList() {
+			List<List<Integer>> combinations = Combinatorics.combinePairwise(asList(asList(1, 2, 3)));
+			assertThat(combinations).containsExactly(asList(1), asList(2), asList(3));
+		}
+
+		@Example
+		void twoListsAreFullyCombined() {
+			List<List<Object>> combinations = Combinatorics.combinePairwise(asList(
+				asList(1, 2, 3),
+				asList('a', 'b')
+			));
+
+			assertThat(combinations).containsExactlyInAnyOrder(
+				asList(1, 'a'), asList(1, 'b'),
+				asList(2, 'a'), asList(2, 'b'),
+				asList(3, 'a'), asList(3, 'b')
+			);
+		}
+
+		@Example
+		void anEmptyListResultsInNoCombinations() {
+			List<List<Integer>> combinations = Combinatorics.combinePairwise(asList(
+				asList(1, 2, 3),
+				asList(),
+				asList(4, 5)
+			));
+			assertThat(combinations).isEmpty();
+		}
+
+		@Example
+		void fourListsOfThreeNeedFarFewerThanAllCombinations() {
+			List<Integer> values = asList(1, 2, 3);
+			List<List<Integer>> lists = asList(values, values, values, values);
+			List<List<Integer>> combinations = Combinatorics.combinePairwise(lists);
+
+			assertThat(combinations).hasSizeLessThanOrEqualTo(12);
+			assertAllPairsCovered(lists, combinations);
+		}
+
+		@Property(tries = 100)
+		@Label("every pair of values of two lists is contained in a combination")
+		void allPairsAreCovered(@ForAll("lists") @Size(max = 6) List<List<Integer>> lists) {
+			List<List<Integer>> combinations = Combinatorics.combinePairwise(lists);
+
+			int product = lists.stream().mapToInt(List::size).reduce(1, (left, right) -> left * right);
+			assertThat(combinations).hasSizeLessThanOrEqualTo(product);
+			assertAllPairsCovered(lists, combinations);
+		}
+
+		private void assertAllPairsCovered(List<List<Integer>> lists, List<List<Integer>> combinations) {
+			for (List<Integer> combination : combinations) {
+				assertThat(combination).hasSize(lists.size());
+				for (int i = 0; i < lists.size(); i++) {
+					assertThat(lists.get(i)).contains(combination.get(i));
+				}
+			}
+			for (int i = 0; i < lists.size(); i++) {
+				for (int j = i + 1; j < lists.size(); j++) {
+					int first = i;
+					int second = j;
+					for (Integer left : lists.get(i)) {
+						for (Integer right : lists.get(j)) {
+							assertThat(combinations).anyMatch(
+								combination -> combination.get(first).equals(left) && combination.get(second).equals(right)
+							);
+						}
+					}
+				}
+			}
+		}
+
+		@Provide
+		Arbitrary<List<List<Integer>>> lists() {
+			return Arbitraries
+				.integers().between(-1000, 1000)
+				.list().ofMinSize(1).ofMaxSize(5)
+				.list();
+		}
+	}
 }